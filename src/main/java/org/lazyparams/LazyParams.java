@@ -9,6 +9,8 @@
  */
 package org.lazyparams;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.lazyparams.config.Configuration;
 import org.lazyparams.internal.ConfigurationContext;
 import org.lazyparams.internal.Instrument;
@@ -109,10 +111,16 @@ public class LazyParams {
     public static <T> T pickValue(
             ToDisplayFunction<? super T> toDisplay,
             T[] possibleParameterValues) {
-        return ScopedLazyParameter
-                .from(possibleParameterValues)
-                .withExtraIdDetails(ExtraIdDetail.array_displayed)
-                .asParameter(toDisplay).pickValue();
+        PreparedKey key = new PreparedKey(ExtraIdDetail.array_displayed,
+                toDisplay, null, possibleParameterValues);
+        ScopedLazyParameter<T> parameter = prepared(key);
+        if (null == parameter) {
+            parameter = prepare(key, ScopedLazyParameter
+                    .from(possibleParameterValues)
+                    .withExtraIdDetails(ExtraIdDetail.array_displayed)
+                    .asParameter(toDisplay));
+        }
+        return parameter.pickValue();
     }
 
     /**
@@ -120,10 +128,16 @@ public class LazyParams {
      */
     public static <T> T pickValue(
             final String parameterName, T[] possibleParamValues) {
-        return ScopedLazyParameter
-                .from(possibleParamValues)
-                .withExtraIdDetails(ExtraIdDetail.array_named)
-                .asParameter(parameterName).pickValue();
+        PreparedKey key = new PreparedKey(ExtraIdDetail.array_named,
+                parameterName, null, possibleParamValues);
+        ScopedLazyParameter<T> parameter = prepared(key);
+        if (null == parameter) {
+            parameter = prepare(key, ScopedLazyParameter
+                    .from(possibleParamValues)
+                    .withExtraIdDetails(ExtraIdDetail.array_named)
+                    .asParameter(parameterName));
+        }
+        return parameter.pickValue();
     }
 
     /**
@@ -132,10 +146,16 @@ public class LazyParams {
     public static <T> T pickValue(
             ToDisplayFunction<? super T> toDisplay,
             T primaryValue, T... otherValues) {
-        return ScopedLazyParameter
-                .from(primaryValue, otherValues)
-                .withExtraIdDetails(ExtraIdDetail.varargs_displayed)
-                .asParameter(toDisplay).pickValue();
+        PreparedKey key = new PreparedKey(ExtraIdDetail.varargs_displayed,
+                toDisplay, primaryValue, otherValues);
+        ScopedLazyParameter<T> parameter = prepared(key);
+        if (null == parameter) {
+            parameter = prepare(key, ScopedLazyParameter
+                    .from(primaryValue, otherValues)
+                    .withExtraIdDetails(ExtraIdDetail.varargs_displayed)
+                    .asParameter(toDisplay));
+        }
+        return parameter.pickValue();
     }
 
     /**
@@ -143,10 +163,16 @@ public class LazyParams {
      */
     public static <T> T pickValue(
             String parameterName, T primaryValue, T... otherValues) {
-        return ScopedLazyParameter
-                .from(primaryValue, otherValues)
-                .withExtraIdDetails(ExtraIdDetail.varargs_named)
-                .asParameter(parameterName).pickValue();
+        PreparedKey key = new PreparedKey(ExtraIdDetail.varargs_named,
+                parameterName, primaryValue, otherValues);
+        ScopedLazyParameter<T> parameter = prepared(key);
+        if (null == parameter) {
+            parameter = prepare(key, ScopedLazyParameter
+                    .from(primaryValue, otherValues)
+                    .withExtraIdDetails(ExtraIdDetail.varargs_named)
+                    .asParameter(parameterName));
+        }
+        return parameter.pickValue();
     }
 
     /**
@@ -160,6 +186,11 @@ public class LazyParams {
      * {@link Enum#toString()} implementation returns constant name.)
      */
     public static <E extends Enum<E>> E pickValue(E... values) {
+        PreparedKey key = new PreparedKey(Enum.class, stringValueOf, null, values);
+        ScopedLazyParameter<E> parameter = prepared(key);
+        if (null != parameter) {
+            return parameter.pickValue();
+        }
         E[] frozenValues = values.clone();
         Class<E> enumType = (Class<E>) values.getClass().getComponentType();
         StringBuilder sb = new StringBuilder(enumType.getName());
@@ -185,10 +216,43 @@ public class LazyParams {
         if (0 == frozenValues.length && false == enumType.isEnum()) {
             throw new IllegalArgumentException("Not an enum type: " + enumType);
         }
-        return ScopedLazyParameter
+        return prepare(key, ScopedLazyParameter
                 .from(0 == frozenValues.length ? (E[])enumType.getEnumConstants() : frozenValues)
                 .withExplicitParameterId(explicitId)
-                .asParameter(stringValueOf).pickValue();
+                .asParameter(stringValueOf)).pickValue();
+    }
+
+    /**
+     * Parameters that have been prepared by the <code>pickValue(...)</code>
+     * methods are kept on current test scope, so that repeated value-picks
+     * on the same parameter (e.g. from within a loop) can skip the fluent
+     * factory progression and the construction of parameter ID.
+     * The prepared parameters are dropped when the scope is retired.
+     *
+     * @see PreparedKey
+     */
+    private static Map<PreparedKey,ScopedLazyParameter<?>> preparedParameters() {
+        Configuration scopedConfig = currentScopeConfiguration();
+        Map<PreparedKey,ScopedLazyParameter<?>> preparedParameters =
+                scopedConfig.getScopedCustomItem(PreparedKey.class);
+        if (null == preparedParameters) {
+            preparedParameters =
+                    new ConcurrentHashMap<PreparedKey,ScopedLazyParameter<?>>();
+            scopedConfig.setScopedCustomItem(PreparedKey.class, preparedParameters);
+        }
+        return preparedParameters;
+    }
+
+    @SuppressWarnings("unchecked"/*because equal keys have identical values*/)
+    private static <T> ScopedLazyParameter<T> prepared(PreparedKey key) {
+        return (ScopedLazyParameter<T>) preparedParameters().get(key);
+    }
+
+    private static <T> ScopedLazyParameter<T> prepare(
+            PreparedKey key, ScopedLazyParameter<T> parameter) {
+        ScopedLazyParameter<T> unscoped = parameter.unscoped();
+        preparedParameters().put(key.frozen(), unscoped);
+        return unscoped;
     }
 
     /**
@@ -252,4 +316,77 @@ public class LazyParams {
     private enum ExtraIdDetail {
         varargs_named, varargs_displayed, array_named, array_displayed;
     }
+
+    /**
+     * Identifies a prepared parameter by the identities of its values and
+     * display details, which together determine the parameter ID.
+     * Parameter name is an exception, which is compared with equals(...).
+     * Identity of value array is not considered - only its type and the
+     * identities of its elements - so a prepared parameter is also found when
+     * the values are passed as varargs or on a new array.
+     */
+    private static final class PreparedKey {
+        private final Object pickMethodDetail;
+        private final Object displayDetail;
+        private final Object primaryValue;
+        private final Object[] values;
+        private final int hash;
+
+        PreparedKey(Object pickMethodDetail, Object displayDetail,
+                Object primaryValue, Object[] values) {
+            this.pickMethodDetail = pickMethodDetail;
+            this.displayDetail = displayDetail;
+            this.primaryValue = primaryValue;
+            this.values = values;
+            int hash = System.identityHashCode(pickMethodDetail);
+            hash = 31 * hash + (displayDetail instanceof String
+                    ? displayDetail.hashCode()
+                    : System.identityHashCode(displayDetail));
+            hash = 31 * hash + System.identityHashCode(primaryValue);
+            hash = 31 * hash + values.getClass().hashCode();
+            for (Object eachValue : values) {
+                hash = 31 * hash + System.identityHashCode(eachValue);
+            }
+            this.hash = hash;
+        }
+
+        /**
+         * Protects key from later modification of the value array
+         * by making a key of its own copy.
+         */
+        PreparedKey frozen() {
+            return new PreparedKey(pickMethodDetail, displayDetail,
+                    primaryValue, values.clone());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (false == obj instanceof PreparedKey) {
+                return false;
+            }
+            PreparedKey other = (PreparedKey) obj;
+            if (hash != other.hash
+                    || pickMethodDetail != other.pickMethodDetail
+                    || primaryValue != other.primaryValue
+                    || values.getClass() != other.values.getClass()
+                    || values.length != other.values.length) {
+                return false;
+            } else if (displayDetail instanceof String
+                    ? false == displayDetail.equals(other.displayDetail)
+                    : displayDetail != other.displayDetail) {
+                return false;
+            }
+            for (int i = 0; i < values.length; ++i) {
+                if (values[i] != other.values[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -13,6 +13,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import org.lazyparams.config.Configuration;
 import org.lazyparams.core.Lazer;
+import org.lazyparams.internal.ConfigurationContext;
 import org.lazyparams.internal.DisplayAppendixContext;
 import org.lazyparams.internal.LazerContext;
 import org.lazyparams.internal.Instrument;
@@ -42,20 +43,75 @@ public class LazyParamsCoreUtil {
 
     private static final boolean onWrongClassLoader = null != OnProperClassLoader.makePick.target;
 
+    /**
+     * Combined parameters are combined with the strength of current scope
+     * configuration, which by default is pairwise.
+     *
+     * @see org.lazyparams.config.Configuration#getCombinationStrength()
+     * @see #makeCombinedPick(Object, int, int)
+     */
     public static int makePick(
             Object parameterId, boolean combinePairwise, int numberOfParamValues) {
         if (onWrongClassLoader) {
             return (Integer) OnProperClassLoader.makePick.<RuntimeException>invoke(
                     parameterId, combinePairwise, numberOfParamValues);
         }
+        return makeCombinedPick(parameterId, combinePairwise
+                ? ConfigurationContext.currentTestConfiguration().getCombinationStrength()
+                : 1, numberOfParamValues);
+    }
+
+    /**
+     * @param combinationStrength 1 for a parameter that is not combined,
+     * 2 for pairwise combining and 3 or more for t-wise combining, which
+     * is applied among parameters that have combination strength of 3
+     * or more.
+     */
+    public static int makeCombinedPick(
+            Object parameterId, int combinationStrength, int numberOfParamValues) {
+        if (onWrongClassLoader) {
+            return (Integer) OnProperClassLoader.makeCombinedPick.<RuntimeException>invoke(
+                    parameterId, combinationStrength, numberOfParamValues);
+        }
+        return makePickOnLazer(parameterId, combinationStrength,
+                numberOfParamValues, null);
+    }
+
+    /**
+     * Combined pick on a parameter that has a relative cost on each value,
+     * so that the expensive values are picked on fewer repetitions.
+     *
+     * @param combinationStrength 2 or more for the combination strength of
+     * this parameter or 0 for the combination strength of current scope
+     * configuration
+     * @param valueCosts positive cost of each value, which also determines
+     * the number of values
+     * @see Lazer#pick(Object, int, double[])
+     */
+    public static int makeCostWeightedPick(
+            Object parameterId, int combinationStrength, double[] valueCosts) {
+        if (onWrongClassLoader) {
+            return (Integer) OnProperClassLoader.makeCostWeightedPick.<RuntimeException>invoke(
+                    parameterId, combinationStrength, valueCosts);
+        }
+        return makePickOnLazer(parameterId, 0 < combinationStrength
+                ? combinationStrength
+                : ConfigurationContext.currentTestConfiguration().getCombinationStrength(),
+                valueCosts.length, valueCosts);
+    }
+
+    private static int makePickOnLazer(Object parameterId, int combinationStrength,
+            int numberOfParamValues, double[] valueCostsOrNull) {
         if (null == parameterId) {
             throw new NullPointerException("Non-null parameter ID required!");
         } else if (numberOfParamValues <= 0) {
             throw new IllegalArgumentException("Parameter must have at least one possible value!");
         }
         try {
-            return LazerContext.resolveLazer().pick(
-                    parameterId, combinePairwise, numberOfParamValues);
+            Lazer lazer = LazerContext.resolveLazer();
+            return null == valueCostsOrNull
+                    ? lazer.pick(parameterId, combinationStrength, numberOfParamValues)
+                    : lazer.pick(parameterId, combinationStrength, valueCostsOrNull);
 
         } catch (VirtualMachineError oom) {
             throw oom;
@@ -96,14 +152,55 @@ public class LazyParamsCoreUtil {
                 displayPartRef, displayAppendix, false);
     }
 
+    /**
+     * Progress of the parameterized test that is currently executed, e.g.
+     * for deciding on a budget for
+     * {@link Configuration#setMaxTotalCount(int) max total count}
+     * or for a dashboard to show progress of a long-running test.
+     *
+     * @return coverage snapshot or null if no parameter value has been
+     *         picked on current test
+     * @see Lazer#coverage()
+     */
+    public static Lazer.Coverage currentCoverage() {
+        if (onWrongClassLoader) {
+            Object coverage = OnProperClassLoader.currentCoverage
+                    .<RuntimeException>invoke();
+            return null == coverage ? null : new Lazer.Coverage(
+                    (Long) getterOn(coverage, "getRequiredCombinations"),
+                    (Long) getterOn(coverage, "getCoveredCombinations"),
+                    (Long) getterOn(coverage, "getOutstandingForwardRequests"),
+                    (Long) getterOn(coverage, "getUnpickedValues"),
+                    (Integer) getterOn(coverage, "getRepetitionCount"),
+                    (Long) getterOn(coverage, "getEstimatedRemainingRepetitions"),
+                    (Long) getterOn(coverage, "getUnreachableCombinations"));
+        }
+        return LazerContext.currentCoverage();
+    }
+
+    /**
+     * Coverage from provider class-loader is instance of another
+     * {@link Lazer.Coverage} class, so its figures are read reflectively.
+     */
+    private static Object getterOn(Object coverage, String getterName) {
+        try {
+            return coverage.getClass().getMethod(getterName).invoke(coverage);
+        } catch (Exception ex) {
+            throw LazyParamsCoreUtil.<RuntimeException>unchecked(ex);
+        }
+    }
+
     public static Configuration globalConfiguration() {
         return Configuration.GLOBAL_CONFIGURATION;
     }
 
     enum OnProperClassLoader {
         makePick(Object.class, boolean.class, int.class),
+        makeCombinedPick(Object.class, int.class, int.class),
+        makeCostWeightedPick(Object.class, int.class, double[].class),
         displayOnSuccess(Object.class, CharSequence.class),
-        displayOnFailure(Object.class, CharSequence.class);
+        displayOnFailure(Object.class, CharSequence.class),
+        currentCoverage();
 
         private final Method target;
 
@@ -9,6 +9,10 @@
  */
 package org.lazyparams.config;
 
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author Henrik Kaipe
  * @see org.lazyparams.LazyParams#currentScopeConfiguration()
@@ -39,6 +43,17 @@ public abstract class Configuration implements ReadableConfiguration {
     private int maxTotalCount = 0;
     private String valueDisplaySeparator = null;
     private Boolean alsoUseValueDisplaySeparatorBeforeToDisplayFunction = null;
+    private long maxDuration = 0;
+    private Boolean preferUncoveredCombinationsOnLowBudget = null;
+    private int combinationStrength = 0;
+    private Boolean planCombinationsUpfront = null;
+    private File planCacheDirectory = null;
+    private Boolean precomputeNextRepetition = null;
+    private int shardIndex = 0;
+    private int shardCount = 0;
+    private Boolean fullIntroductionStackTraces = null;
+    private Long tieBreakSeed = null;
+    private List<Map<?,Integer>> mustIncludeCombinations = null;
 
     /* *************************************************************************
      * Each getter that implements ReadableConfiguration ... */
@@ -83,6 +98,156 @@ public abstract class Configuration implements ReadableConfiguration {
         this.maxTotalCount = maxTotalCountOrZeroToForceParentScope;
     }
 
+    /**
+     * @param maxDurationMillisOrZeroToForceParentScope max number of
+     * milliseconds to spend on the repetitions of a test. Unlike the max
+     * counts it does not fail the test when reached. The repetitions are
+     * instead quietly discontinued and the coverage that was reached is
+     * appended to the display of the last repetition. The duration includes
+     * the first repetition only if this setting is made on a parent scope
+     * (e.g. during BeforeAll) before the test starts.
+     * @see #setPreferUncoveredCombinationsOnLowBudget(Boolean)
+     */
+    public void setMaxDuration(long maxDurationMillisOrZeroToForceParentScope) {
+        this.maxDuration = maxDurationMillisOrZeroToForceParentScope;
+    }
+
+    /**
+     * @param preferUncoveredCombinationsOnLowBudget or null to force parent
+     * scope. Set it to true for having the value picks prefer combinations
+     * that have not yet been covered, once the repetitions that remain within
+     * {@link #setMaxTotalCount(int) max total count} or
+     * {@link #setMaxDuration(long) max duration} do not seem to be enough for
+     * covering all combinations. It makes more combinations covered when the
+     * budget runs out.
+     */
+    public void setPreferUncoveredCombinationsOnLowBudget(
+            Boolean preferUncoveredCombinationsOnLowBudget) {
+        this.preferUncoveredCombinationsOnLowBudget =
+                preferUncoveredCombinationsOnLowBudget;
+    }
+
+    /**
+     * @param combinationStrengthOrZeroToForceParentScope 2 for pairwise
+     * combining, 3 for 3-wise combining etc. Only applies to parameters that
+     * are combined, i.e. parameters that are not combined stay uncombined.
+     * Each parameter value is combined with tuples of upstream values on
+     * parameters that have at least the same combination strength, so
+     * t-wise combining is applied among parameters that are introduced
+     * while this setting is in effect.
+     */
+    public void setCombinationStrength(int combinationStrengthOrZeroToForceParentScope) {
+        this.combinationStrength = combinationStrengthOrZeroToForceParentScope;
+    }
+
+    /**
+     * @param planCombinationsUpfront or null to force parent scope.
+     * Must be set before the first repetition of the test has completed, as
+     * the covering array is computed on the parameters that were introduced
+     * during the first repetition. The plan is abandoned if a later repetition
+     * introduces any other parameters, in which case remaining values are
+     * again decided on the fly. Parameters with millions of value pairs are
+     * never planned but always combined on the fly.
+     */
+    public void setPlanCombinationsUpfront(Boolean planCombinationsUpfront) {
+        this.planCombinationsUpfront = planCombinationsUpfront;
+    }
+
+    /**
+     * @param planCacheDirectory or null to force parent scope.
+     * Picks are cached per test, where the test identity is resolved on
+     * opening of the test-execution scope. Therefore this setting must be
+     * made on a parent scope (e.g. during BeforeAll) to have any effect. A directory under the build directory
+     * (e.g. "target/lazyparams-plans") is a good choice.
+     */
+    public void setPlanCacheDirectory(File planCacheDirectory) {
+        this.planCacheDirectory = planCacheDirectory;
+    }
+
+    /**
+     * @param precomputeNextRepetition or null to force parent scope.
+     * Set it to true for having the value picks of next repetition made on
+     * a background thread while the test framework is busy between
+     * repetitions, so that the test can just read them. Only picks on
+     * parameters that are known from previous repetitions are precomputed,
+     * so it pays off once the parameters of the test have stabilized.
+     * Most useful on fast tests with many parameters, where the time spent
+     * on value picks is a significant part of the execution time.
+     * This setting has effect when a new parameterized test is started.
+     */
+    public void setPrecomputeNextRepetition(Boolean precomputeNextRepetition) {
+        this.precomputeNextRepetition = precomputeNextRepetition;
+    }
+
+    /**
+     * Have the repetitions of each parameterized test shared by several
+     * JVMs, e.g. forks or CI agents, where each JVM is configured with
+     * the same shard count and a shard index of its own. The combinations of
+     * a test are decided the same way on each shard, so each shard computes
+     * all repetitions but only runs every shardCount:th of them, which
+     * together reach full coverage. Only repetitions that can be computed
+     * without running the test are shared, so the first repetitions - before
+     * the parameters of the test have stabilized - are run on every shard.
+     * This setting has effect when a new parameterized test is started.
+     *
+     * @param shardIndex index of the shard that this JVM runs
+     * @param shardCountOrZeroToForceParentScope number of shards
+     * @see org.lazyparams.core.Lazer#precomputeNextRepetition()
+     */
+    public void setShard(int shardIndex, int shardCountOrZeroToForceParentScope) {
+        if (shardIndex < 0 || 0 < shardCountOrZeroToForceParentScope
+                && shardCountOrZeroToForceParentScope <= shardIndex) {
+            throw new IllegalArgumentException("Shard index " + shardIndex
+                    + " is out of range for shard count "
+                    + shardCountOrZeroToForceParentScope);
+        }
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCountOrZeroToForceParentScope;
+    }
+
+    /**
+     * @param fullIntroductionStackTraces or null to force parent scope.
+     * Set it to true for keeping the full stack-trace of each parameter
+     * introduction, as it was before only the caller frame was kept.
+     * The full stack is more expensive to capture but might help
+     * when an inconsistent parameter value pick is reported from
+     * within a shared helper method.
+     */
+    public void setFullIntroductionStackTraces(Boolean fullIntroductionStackTraces) {
+        this.fullIntroductionStackTraces = fullIntroductionStackTraces;
+    }
+
+    /**
+     * @param tieBreakSeed or null to force parent scope.
+     * With a seed the value options that are equally good are not decided
+     * in favor of the lowest value index but by a tie-breaker that is seeded
+     * with this value. It spreads coverage more evenly among the values when
+     * repetitions are cut short by {@link #setMaxTotalCount(int) max total
+     * count}. The picks are reproducible from the seed, so a seed that is
+     * rotated (e.g. per CI build) should also be logged. This setting has
+     * effect when a new parameterized test is started.
+     */
+    public void setTieBreakSeed(Long tieBreakSeed) {
+        this.tieBreakSeed = tieBreakSeed;
+    }
+
+    /**
+     * @param mustIncludeCombinations or null to force parent scope.
+     * Each combination maps parameter ids (or their toString) to value
+     * indexes and is included on a repetition of its own, ahead of the
+     * combinations that are decided on the fly - e.g. a combination that has
+     * once caused a production incident. The combinations that are covered
+     * by these repetitions are not repeated later on, and together with a low
+     * {@link #setMaxFailureCount(int) max failure count} it gives quick
+     * feedback on the known risky combinations. Must be set before the first
+     * value pick of the test.
+     * @see org.lazyparams.core.Lazer#setMustIncludeCombinations(List)
+     */
+    public void setMustIncludeCombinations(
+            List<Map<?,Integer>> mustIncludeCombinations) {
+        this.mustIncludeCombinations = mustIncludeCombinations;
+    }
+
     public void setValueDisplaySeparator(String valueDisplaySeparator) {
         this.valueDisplaySeparator = valueDisplaySeparator;
     }
@@ -92,6 +257,142 @@ public abstract class Configuration implements ReadableConfiguration {
                 alsoUseValueDisplaySeparatorBeforeToDisplayFunction;
     }
 
+    /* *************************************************************************
+     * Settings from max duration to must-include combinations above are not
+     * part of ReadableConfiguration. Their getters below return the setting
+     * of the nearest scope where it is set - or otherwise its default value.*/
+
+        /**
+         * @return max number of milliseconds to spend on the repetitions of
+         * a test or zero if there is no max duration
+         */
+        public long getMaxDuration() {
+            return 0 < maxDuration ? maxDuration
+                    : null != parentScope() ? parentScope().getMaxDuration()
+                    : 0;
+        }
+        /**
+         * @return true if value picks are to prefer the combinations that
+         * have not yet been covered, once the remaining budget of max total
+         * count or max duration does not seem to be enough for covering all
+         * combinations
+         */
+        public boolean preferUncoveredCombinationsOnLowBudget() {
+            return null != preferUncoveredCombinationsOnLowBudget
+                    ? preferUncoveredCombinationsOnLowBudget
+                    : null != parentScope()
+                    && parentScope().preferUncoveredCombinationsOnLowBudget();
+        }
+        /**
+         * @return strength of the combining that applies to parameters that
+         * are combined - by default 2 for pairwise combining
+         */
+        public int getCombinationStrength() {
+            return 0 < combinationStrength ? combinationStrength
+                    : null != parentScope() ? parentScope().getCombinationStrength()
+                    : 2;
+        }
+        /**
+         * @return true if parameter values are to be picked from a covering
+         * array that is computed on the parameters of the first repetition
+         */
+        public boolean planCombinationsUpfront() {
+            return null != planCombinationsUpfront ? planCombinationsUpfront
+                    : null != parentScope() && parentScope().planCombinationsUpfront();
+        }
+        /**
+         * @return directory of on-disk cache with the value picks of each
+         * test or null if picks are not cached
+         */
+        public File getPlanCacheDirectory() {
+            return null != planCacheDirectory ? planCacheDirectory
+                    : null != parentScope() ? parentScope().getPlanCacheDirectory()
+                    : null;
+        }
+        /**
+         * @return true if the value picks of next repetition are to be made
+         * on a background thread
+         */
+        public boolean precomputeNextRepetition() {
+            return null != precomputeNextRepetition ? precomputeNextRepetition
+                    : null != parentScope() && parentScope().precomputeNextRepetition();
+        }
+        /**
+         * @return index of the shard that this JVM runs - by default as
+         * specified by system property "lazyparams.shardIndex" or otherwise
+         * zero
+         * @throws IllegalArgumentException if shard index of system property
+         *         is out of range
+         */
+        public int getShardIndex() {
+            if (0 < shardCount) {
+                return shardIndex;
+            } else if (null != parentScope()) {
+                return parentScope().getShardIndex();
+            }
+            int shardIndex = Integer.getInteger("lazyparams.shardIndex", 0);
+            int shardCount = getShardCount();
+            if (shardIndex < 0 || shardCount <= shardIndex) {
+                throw new IllegalArgumentException(
+                        "System property lazyparams.shardIndex=" + shardIndex
+                        + " is out of range for shard count " + shardCount);
+            }
+            return shardIndex;
+        }
+        /**
+         * @return number of shards that together run the repetitions of each
+         * parameterized test - by default as specified by system property
+         * "lazyparams.shardCount" or otherwise 1
+         * @throws IllegalArgumentException if shard count of system property
+         *         is less than 1
+         */
+        public int getShardCount() {
+            if (0 < shardCount) {
+                return shardCount;
+            } else if (null != parentScope()) {
+                return parentScope().getShardCount();
+            }
+            int shardCount = Integer.getInteger("lazyparams.shardCount", 1);
+            if (shardCount < 1) {
+                throw new IllegalArgumentException(
+                        "System property lazyparams.shardCount=" + shardCount
+                        + " must be at least 1");
+            }
+            return shardCount;
+        }
+        /**
+         * @return true if the full stack-trace is kept for the introduction
+         * of each parameter; otherwise false for only keeping caller frame
+         */
+        public boolean fullIntroductionStackTraces() {
+            return null != fullIntroductionStackTraces ? fullIntroductionStackTraces
+                    : null != parentScope() && parentScope().fullIntroductionStackTraces();
+        }
+        /**
+         * @return seed of the tie-breaker that decides between equally good
+         * value options; or null for always preferring the lowest value index
+         */
+        public Long getTieBreakSeed() {
+            return null != tieBreakSeed ? tieBreakSeed
+                    : null != parentScope() ? parentScope().getTieBreakSeed()
+                    : null;
+        }
+        /**
+         * @return combinations of parameter values that are to be included
+         * on the first repetitions or null if there are none
+         */
+        public List<Map<?,Integer>> getMustIncludeCombinations() {
+            return null != mustIncludeCombinations ? mustIncludeCombinations
+                    : null != parentScope() ? parentScope().getMustIncludeCombinations()
+                    : null;
+        }
+
+    private Configuration parentScope() {
+        ReadableConfiguration parentConfig = parentConfiguration();
+        return parentConfig instanceof Configuration
+                ? (Configuration) parentConfig : null;
+    }
+
     public abstract <V> V getScopedCustomItem(Object scopedItemKey);
     public <V> void setScopedCustomItem(Object scopedItemKey, V scopedItemValue) {
         internalSetScopedCustomItem(scopedItemKey, scopedItemValue,
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.core;
+
+/**
+ * Locates the caller frame that introduces a parameter to {@link Lazer}.
+ * This version must capture the full stack-trace to find it but only the
+ * located frame is kept. On JDK-9 or later it is replaced by the
+ * multi-release version of this class, which walks the stack with
+ * StackWalker and stops as soon as the frame is found.
+ *
+ * @author Henrik Kaipe
+ * @see Lazer#setFullIntroductionStackTraces(boolean)
+ */
+final class CallerFrame {
+
+    private CallerFrame() {}
+
+    /**
+     * @return first stack frame that is not part of the framework
+     *         or null if there is no such frame
+     */
+    static StackTraceElement locate() {
+        for (StackTraceElement frame : new Throwable().getStackTrace()) {
+            if (Lazer.ExpectedParameterRepetition.isIntroductionFrame(
+                    frame.getClassName(), frame.getMethodName(),
+                    frame.getLineNumber())) {
+                return frame;
+            }
+        }
+        return null;
+    }
+}
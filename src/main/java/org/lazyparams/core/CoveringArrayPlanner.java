@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes a pairwise covering array up front, when all parameters are
+ * known. Rows are composed one at a time, much like AETG, where each row
+ * starts with the parameter that has the most uncovered pairs and then
+ * continues to pick, for parameter after parameter, the value that
+ * covers the most new pairs with the values already in the row. Ties are
+ * broken in favor of the value that has the most uncovered pairs in total,
+ * which will often leave room for the remaining pairs to be covered on
+ * fewer rows.
+ * <br/>
+ * It is used by {@link Lazer} on parameters that were introduced during
+ * the first repetition, once {@link Lazer#setPlanCombinationsUpfront(boolean)}
+ * is enabled. Parameters that are not combined are only planned to have each
+ * of their values picked at least once.
+ *
+ * @author Henrik Kaipe
+ */
+final class CoveringArrayPlanner {
+
+    private final int[] valueRanges;
+    private final boolean[] combined;
+    /**
+     * Uncovered pairs of parameters i &lt; j are at
+     * uncoveredPairs[j][i][valueOnI * valueRanges[j] + valueOnJ]
+     */
+    private final boolean[][][] uncoveredPairs;
+    /** Number of uncovered pairs on each parameter value */
+    private final int[][] uncoveredCounts;
+    private final int[][] valueCounts;
+    private int totalUncovered = 0;
+
+    private CoveringArrayPlanner(int[] valueRanges, boolean[] combined) {
+        this.valueRanges = valueRanges;
+        this.combined = combined;
+        int width = valueRanges.length;
+        uncoveredPairs = new boolean[width][][];
+        uncoveredCounts = new int[width][];
+        valueCounts = new int[width][];
+        for (int j = 0; j < width; ++j) {
+            uncoveredCounts[j] = new int[valueRanges[j]];
+            valueCounts[j] = new int[valueRanges[j]];
+            uncoveredPairs[j] = new boolean[j][];
+            for (int i = 0; combined[j] && i < j; ++i) {
+                if (combined[i]) {
+                    boolean[] pairs = new boolean[valueRanges[i] * valueRanges[j]];
+                    for (int pair = 0; pair < pairs.length; ++pair) {
+                        pairs[pair] = true;
+                        ++uncoveredCounts[i][pair / valueRanges[j]];
+                        ++uncoveredCounts[j][pair % valueRanges[j]];
+                    }
+                    uncoveredPairs[j][i] = pairs;
+                    totalUncovered += pairs.length;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param valueRanges number of values on each parameter
+     * @param combined tells which parameters are to be combined pairwise
+     * @param firstRow values that were picked on first repetition, which will
+     *        also be the first row of the returned plan
+     * @return rows of planned value picks, where each row has one value
+     *         index per parameter
+     */
+    static List<int[]> plan(int[] valueRanges, boolean[] combined, int[] firstRow) {
+        CoveringArrayPlanner planner = new CoveringArrayPlanner(valueRanges, combined);
+        List<int[]> rows = new ArrayList<int[]>();
+        rows.add(firstRow.clone());
+        planner.register(firstRow);
+        while (0 < planner.totalUncovered || planner.hasUnusedValues()) {
+            int[] row = planner.composeRow();
+            planner.register(row);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private boolean isUncovered(int param, int value, int otherParam, int otherValue) {
+        if (param < otherParam) {
+            boolean[] pairs = uncoveredPairs[otherParam][param];
+            return null != pairs
+                    && pairs[value * valueRanges[otherParam] + otherValue];
+        } else {
+            boolean[] pairs = uncoveredPairs[param][otherParam];
+            return null != pairs
+                    && pairs[otherValue * valueRanges[param] + value];
+        }
+    }
+
+    private void register(int[] row) {
+        for (int j = 0; j < row.length; ++j) {
+            ++valueCounts[j][row[j]];
+            for (int i = 0; i < j; ++i) {
+                boolean[] pairs = uncoveredPairs[j][i];
+                int pair = row[i] * valueRanges[j] + row[j];
+                if (null != pairs && pairs[pair]) {
+                    pairs[pair] = false;
+                    --uncoveredCounts[i][row[i]];
+                    --uncoveredCounts[j][row[j]];
+                    --totalUncovered;
+                }
+            }
+        }
+    }
+
+    private int[] composeRow() {
+        int width = valueRanges.length;
+        int[] row = new int[width];
+        boolean[] assigned = new boolean[width];
+        for (int count = 0; count < width; ++count) {
+            /* Next parameter is the one with most uncovered pairs: */
+            int param = -1, paramUncovered = -1;
+            for (int p = 0; p < width; ++p) {
+                if (false == assigned[p]) {
+                    int pUncovered = 0;
+                    for (int v = 0; v < valueRanges[p]; ++v) {
+                        pUncovered += uncoveredCounts[p][v];
+                    }
+                    if (paramUncovered < pUncovered) {
+                        param = p;
+                        paramUncovered = pUncovered;
+                    }
+                }
+            }
+            int bestValue = 0, bestGain = -1;
+            for (int v = 0; v < valueRanges[param]; ++v) {
+                int gain = 0;
+                for (int p = 0; combined[param] && p < width; ++p) {
+                    if (assigned[p] && isUncovered(param, v, p, row[p])) {
+                        ++gain;
+                    }
+                }
+                if (bestGain < gain || bestGain == gain && (
+                        uncoveredCounts[param][bestValue] < uncoveredCounts[param][v]
+                        || uncoveredCounts[param][bestValue] == uncoveredCounts[param][v]
+                        && valueCounts[param][v] < valueCounts[param][bestValue])) {
+                    bestValue = v;
+                    bestGain = gain;
+                }
+            }
+            row[param] = bestValue;
+            assigned[param] = true;
+        }
+        return row;
+    }
+
+    private boolean hasUnusedValues() {
+        for (int[] eachParamCounts : valueCounts) {
+            for (int count : eachParamCounts) {
+                if (0 == count) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
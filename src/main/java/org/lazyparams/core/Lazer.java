@@ -13,56 +13,917 @@ import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
-import java.util.Set;
 import org.lazyparams.LazyParams;
 import org.lazyparams.showcase.CartesianProductHub;
 import org.lazyparams.showcase.Ensembles;
 import org.lazyparams.showcase.FalseOrTrue;
 import org.lazyparams.showcase.FullyCombined;
 import org.lazyparams.showcase.InAnyOrder;
+import org.lazyparams.showcase.Primitives;
 import org.lazyparams.showcase.Qronicly;
 import org.lazyparams.showcase.ScopedLazyParameter;
+import org.lazyparams.showcase.Supplied;
 import org.lazyparams.showcase.ToList;
 import org.lazyparams.showcase.ToPick;
 
 /**
  * LAZy parameter values combinER
+ * <br/>
+ * Value picks only depend on the order in which parameters are introduced
+ * and on the values that have been picked, so that the same test produces
+ * the same sequence of combinations on every JVM. Hash codes of parameter
+ * ids are only used for looking up parameters - never for ordering any
+ * evaluation - and internal statistics are ordered by the order in which
+ * their values were introduced.
  *
  * @author Henrik Kaipe
  */
 public class Lazer {
 
-    private String crumbsLog = "";
+    /**
+     * Parameters with more values than this are wide-range parameters, on
+     * which values are only materialized as they are picked.
+     *
+     * @see WideRangeOptions
+     */
+    static final int DENSE_RANGE_MAX = 65480;
+    /**
+     * Upfront planning is skipped when the parameters have more value pairs
+     * than this, because {@link CoveringArrayPlanner} keeps track of every
+     * pair. The values are then combined on the fly instead.
+     *
+     * @see #setPlanCombinationsUpfront(boolean)
+     */
+    static final long PLANNED_PAIRS_MAX = 1 << 22;
+    /**
+     * Repetitions are discontinued after this number of consecutive
+     * repetitions without any progress, on which the constraint has rejected
+     * some outstanding value option, as the remaining combinations are then
+     * considered unreachable under the constraint.
+     *
+     * @see #setConstraint(Constraint)
+     */
+    static final int MAX_STAGNANT_REPETITIONS = 3;
+
+    /**
+     * Node on {@link #crumbs} for the value-picks of current repetition.
+     */
+    private int crumbsNode = CrumbsTrie.ROOT;
     /**
      * Used by {@link ValueStats#isTemporarilyParkedOnPrimaryValue()}
      */
     private int countParkedPrimaryValues = 0;
+    /**
+     * Number of values that have {@link ValueStats#totalCount} &lt;= 0 or
+     * {@link ValueStats#forwardRequestCount} &gt; 0, i.e. values that are
+     * still outstanding when {@link #pendingCombinations()} is evaluated.
+     */
+    private int countOutstandingValues = 0;
+    /**
+     * Number of values on wide-range parameters that have not yet been
+     * materialized, i.e. values that have never been picked and therefore
+     * are also outstanding.
+     *
+     * @see WideRangeOptions
+     */
+    private long countUnmaterializedValues = 0;
+    /**
+     * Number of materialized parameter values that have never been picked.
+     * @see #coverage()
+     */
+    private int countUnpickedValues = 0;
+    /**
+     * Number of pending combos on all values, i.e. the sum of
+     * {@link ValueStats#forwardRequestCount} on all values and tuples.
+     * @see #coverage()
+     */
+    private long countPendingCombos = 0;
+    /**
+     * Number of pairwise (or t-wise) combinations that have been picked.
+     * @see #coverage()
+     */
+    private long countCoveredCombos = 0;
 
-    private final Map<String,Lazynition> reservedCrumbs = new HashMap<String,Lazynition>();
-    private final List<ValueInformation> allValueInfos = new ArrayList<ValueInformation>();
+    /**
+     * Keeps the crumbs of all repetitions and what parameter was picked
+     * after each crumbs node.
+     */
+    private CrumbsTrie crumbs = new CrumbsTrie();
+    /**
+     * Keys are composed from {@link ValueInformation#valueInfoId} and
+     * crumbs node. There is an entry for each crumbs node after which its
+     * value has ended up being the last value picked.
+     * Alternatively where all combinations of later parameter values are
+     * already walked through. This is a safe-guard against repeating
+     * value-picks that will lead nowhere new, i.e. that will not lead to
+     * unknown grounds where new combinations of parameter values can happen.
+     *
+     * @see ValueStats#isEndOfLine()
+     */
+    private LongIntTable endOfLineKeys = new LongIntTable();
+    private List<ValueInformation> allValueInfos = new ArrayList<ValueInformation>();
+    /**
+     * Pool of {@link EnablerBits} instances that are no longer in use, so that
+     * they can be reused by the pending combos of any {@link ValueStats}
+     * instance on this Lazer.
+     */
+    private List<EnablerBits> recycledEnablerBits = new ArrayList<EnablerBits>();
 
-    private final List<ValueInformation> pickCrumbValues =
+    private List<ValueInformation> pickCrumbValues =
             new ArrayList<ValueInformation>();
-    private final Map<Lazynition,ValueInformation[]> coreStatKeys =
+    /**
+     * Tuples of values picked during current repetition. These are only
+     * present on parameters with combination strength of 3 or more, on which
+     * each tuple takes the role of an upstream combo, i.e. a value that is
+     * combined with a tuple of upstream values satisfies a t-wise combination.
+     */
+    private List<TupleInformation> pickCrumbTuples =
+            new ArrayList<TupleInformation>();
+    private List<TupleInformation> allTupleInfos =
+            new ArrayList<TupleInformation>();
+    /**
+     * Keys are composed from the ids of a tuple's base (i.e. the tuple or
+     * value that it extends) and its last value. Values are
+     * index on {@link #allTupleInfos}.
+     */
+    private LongIntTable tupleIndexes = new LongIntTable();
+    /**
+     * Keys are composed from the ids of a tuple and a value that has been
+     * picked in combination with it. Combinations that have never been picked
+     * do not have any entry, so that memory is only spent on t-wise
+     * combinations that are actually satisfied.
+     */
+    private LongIntTable satisfiedTupleCounts = new LongIntTable();
+    /**
+     * Only used for looking up parameters and must never be iterated, as its
+     * order depends on hash codes of parameter ids, which might differ
+     * between JVMs.
+     */
+    private Map<Lazynition,ValueInformation[]> coreStatKeys =
             new HashMap<Lazynition, ValueInformation[]>();
     /**
-     * Each entry of {@link #coreStatKeys} will here have an entry showing the
-     * stack of the parameter's initial introduction to this Lazer instance.
+     * Entries for wide-range parameters only. Their value options on
+     * {@link #coreStatKeys} have trailing null-entries for values that
+     * are not yet materialized.
+     */
+    private Map<Lazynition,WideRangeOptions> wideRangeOptions =
+            new IdentityHashMap<Lazynition,WideRangeOptions>();
+    /**
+     * Reused for looking up known parameters on {@link #coreStatKeys},
+     * so that a pick on a known parameter does not allocate any
+     * {@link Lazynition} instance.
+     */
+    private final Lazynition lookupKey = new Lazynition(null, 1, 0);
+    /**
+     * Transient scoring info on the value options of current pick,
+     * indexed by {@link ValueInformation#itemValueIndex}.
+     * Instances are reused from pick to pick, so that scoring does not
+     * allocate anything once these have grown large enough.
+     *
+     * @see ValueStats#levelScores()
+     */
+    private LevelScores[] levelScoresOnPick = new LevelScores[0];
+    /**
+     * Each entry of {@link #coreStatKeys} will here have an entry showing
+     * where the parameter was initially introduced to this Lazer instance.
+     */
+    private Map<Lazynition,Introduction> firstIntroductions =
+            new IdentityHashMap<Lazynition,Introduction>();
+
+    private boolean fullIntroductionStackTraces = false;
+    /**
+     * Decides between tied value options or null for always preferring
+     * the lowest value index.
+     */
+    private TieBreaker tieBreaker = null;
+    /**
+     * Combinations of values that must never be picked together,
+     * or null if all combinations are allowed.
+     * @see #setConstraint(Constraint)
+     */
+    private Constraint constraint = null;
+    /**
+     * Verdicts of {@link #constraint} on pairs of values, keyed on the ids of
+     * an upstream value and a value option. 1 for a forbidden pair and 0 for
+     * a pair that is allowed.
+     */
+    private LongIntTable constraintVerdicts = new LongIntTable();
+    /**
+     * Number of consecutive repetitions that have neither picked any new
+     * value nor covered any new combination, while {@link #constraint} has
+     * rejected some outstanding value option. It is only tracked when there
+     * is a constraint, as it might leave some pending combinations
+     * unreachable.
+     */
+    private int stagnantRepetitions = 0;
+    private long progressAtStagnation = 0;
+    /**
+     * Whether {@link #constraint} has rejected a value option on current
+     * repetition, while the value option still had a pending combination or
+     * had never been picked.
+     */
+    private boolean rejectedOutstandingOption = false;
+    private boolean planCombinationsUpfront = false;
+    private boolean preferUncoveredCombinations = false;
+    /**
+     * Set to true once a parameter with a value cost other than 1 has been
+     * introduced, so that costs are only evaluated when there is any.
+     * @see #pick(Object, int, double[])
+     */
+    private boolean costWeighted = false;
+    private boolean firstRepetition = true;
+    /**
+     * Set when picks of a new repetition have been made ahead of time,
+     * in which case the next invocation of {@link #startNew()} has nothing
+     * more to do.
+     * @see #precomputeNextRepetition()
+     */
+    private boolean precomputedRepetition = false;
+    /**
+     * Number of picks on current repetition that were made ahead of time
+     * and how many of them the test has asked for so far. The test must ask
+     * for them in the order they were made.
+     */
+    private int precomputedPicks = 0;
+    private int consumedPrecomputedPicks = 0;
+    /**
+     * Set once the test has asked for a precomputed pick out of order, which
+     * is an inconsistency that must not be confirmed away.
+     * @see #confirmPrecomputedPicks()
+     */
+    private boolean precomputedOrderViolated = false;
+    /**
+     * Parameters of the first repetition that was followed by
+     * a precomputation. Parameters are precomputed beyond what is known from
+     * earlier repetitions for as long as all repetitions have introduced
+     * this same sequence of parameters.
+     */
+    private Lazynition[] precomputeSequence = null;
+    private boolean precomputeSequenceVaried = false;
+    /**
+     * Parameters of first repetition, in order of introduction, if a plan
+     * has been computed by {@link CoveringArrayPlanner}; otherwise null.
+     * The plan is abandoned (and this field is set to null) as soon as
+     * a repetition deviates from these parameters, in which case the picks
+     * continue to be decided on the fly.
+     */
+    private Lazynition[] plannedParameters = null;
+    private List<int[]> plannedRows;
+    private int plannedRowIndex;
+
+    /**
+     * Picks of completed repetitions, if picks are recorded; otherwise null.
+     * @see #recordPicks()
+     */
+    private List<long[]> recordedRepetitions = null;
+    private long[] recordingRepetition;
+    private int recordingCount;
+    /**
+     * Recorded picks to replay on the repetitions of this Lazer or null if
+     * there is nothing (more) to replay.
+     * @see #replayPicks(List)
+     */
+    private List<long[]> replayRepetitions = null;
+    private int replayIndex;
+    /**
+     * Combinations that are yet to be included on the repetitions of this
+     * Lazer or null if there is nothing (more) to include.
+     * @see #setMustIncludeCombinations(List)
+     */
+    private List<Map<?,Integer>> mustIncludeCombinations = null;
+    private int mustIncludeIndex;
+
+    /**
+     * Number of completed repetitions that made at least one value pick.
+     */
+    private int repetitionCount = 0;
+    /**
+     * Non-null once this Lazer has been retired.
+     * @see #retire()
+     */
+    private Summary retiredSummary = null;
+    private Coverage retiredCoverage = null;
+
+    /**
+     * Have the full stack-trace captured whenever a parameter is introduced,
+     * as opposed to only locating the caller frame, which is all that is
+     * needed for the message of an {@link ExpectedParameterRepetition}.
+     * The full stack-trace is more expensive and stays in memory for as long
+     * as this Lazer is used, but it could help to figure out where a
+     * parameter was introduced from when the caller frame is not enough.
+     * Has no effect on parameters that have already been introduced.
+     */
+    public void setFullIntroductionStackTraces(boolean fullIntroductionStackTraces) {
+        this.fullIntroductionStackTraces = fullIntroductionStackTraces;
+    }
+
+    /**
+     * @param tieBreaker decides between value options that are equally good,
+     *        or null for the default behavior, which is to prefer the lowest
+     *        value index. Without any tie-breaker the primary values are
+     *        therefore preferred on early repetitions, which leaves the
+     *        highest values less tested if repetitions are cut short by
+     *        a max total count.
+     * @see #seededTieBreaker(long)
+     */
+    public void setTieBreaker(TieBreaker tieBreaker) {
+        this.tieBreaker = tieBreaker;
+    }
+
+    /**
+     * @return tie-breaker that ranks value options by hashing specified seed
+     *         together with parameter fingerprint, value index and repetition
+     *         count. It is reproducible from the seed, also on other JVMs,
+     *         as long as the string representations of parameter ids
+     *         are the same.
+     */
+    public static TieBreaker seededTieBreaker(final long seed) {
+        return new TieBreaker() {
+            @Override
+            public long rank(int parameterFingerprint,
+                    int valueIndex, int repetitionCount) {
+                /* Finalizer of SplitMix64: */
+                long z = seed + 0x9E3779B97F4A7C15L * (1 + parameterFingerprint
+                        + ((long)valueIndex << 32 ^ (long)repetitionCount << 16));
+                z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+                z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+                return z ^ z >>> 31;
+            }
+            @Override
+            public String toString() {
+                return "seededTieBreaker(" + seed + ")";
+            }
+        };
+    }
+
+    /**
+     * Have combinations that are forbidden by specified constraint pruned
+     * from the value picks. A value option that is forbidden in combination
+     * with any upstream value of current repetition is not picked, so the
+     * forbidden combination never costs a repetition and it is never
+     * counted as a pending combination. However, if all value options of
+     * a parameter are forbidden then the constraint cannot be honored and
+     * the lowest value index is picked.
+     * <br/>
+     * Picks are still decided greedily, one parameter at a time, so some
+     * allowed combinations might turn out to be unreachable, e.g. a value that
+     * is forbidden in combination with all values of an upstream parameter.
+     * Therefore there are no more pending combinations once
+     * {@link #MAX_STAGNANT_REPETITIONS} consecutive repetitions have
+     * neither picked any new value nor covered any new combination, while
+     * the constraint has rejected some value option that was still
+     * outstanding. The pending combinations that are then given up are
+     * reported by {@link Coverage#getUnreachableCombinations()}.
+     * <br/>
+     * Must be set before the first repetition has completed. Upfront planning
+     * is not applied on a Lazer that has a constraint.
+     *
+     * @param constraint constraint or null for allowing all combinations
+     * @see #forbiddenPair(Object, int, Object, int)
+     * @see #anyOf(Constraint[])
+     */
+    public void setConstraint(Constraint constraint) {
+        if (firstRepetition && constraint != this.constraint) {
+            this.constraint = constraint;
+            constraintVerdicts = new LongIntTable();
+        }
+    }
+
+    /**
+     * @return constraint that forbids the specified pair of parameter values
+     */
+    public static Constraint forbiddenPair(
+            final Object paramId, final int valueIndex,
+            final Object otherParamId, final int otherValueIndex) {
+        return new Constraint() {
+            @Override
+            public boolean forbids(Object paramId1, int valueIndex1,
+                    Object paramId2, int valueIndex2) {
+                return valueIndex == valueIndex1 && otherValueIndex == valueIndex2
+                        && paramId.equals(paramId1) && otherParamId.equals(paramId2);
+            }
+            @Override
+            public String toString() {
+                return "forbiddenPair(" + paramId + "[" + valueIndex + "], "
+                        + otherParamId + "[" + otherValueIndex + "])";
+            }
+        };
+    }
+
+    /**
+     * @return constraint that forbids the combinations that are forbidden
+     *         by any of the specified constraints
+     */
+    public static Constraint anyOf(final Constraint... constraints) {
+        return new Constraint() {
+            @Override
+            public boolean forbids(Object paramId1, int valueIndex1,
+                    Object paramId2, int valueIndex2) {
+                for (Constraint each : constraints) {
+                    if (each.forbids(paramId1, valueIndex1, paramId2, valueIndex2)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            @Override
+            public String toString() {
+                return "anyOf" + Arrays.toString(constraints);
+            }
+        };
+    }
+
+    /**
+     * Have each pick prefer the value option that covers the most new
+     * combinations on current repetition, ahead of the evaluations that
+     * otherwise distribute the picks for fewer repetitions in total.
+     * It usually covers more combinations on the next few repetitions, which
+     * is preferable when there is only budget left for a few more repetitions.
+     * Can be switched at any time and only affects the picks that follow.
+     *
+     * @see #coverage()
+     */
+    public void setPreferUncoveredCombinations(boolean preferUncoveredCombinations) {
+        this.preferUncoveredCombinations = preferUncoveredCombinations;
+    }
+
+    /**
+     * Have value picks follow a covering array that is computed up front,
+     * on the parameters that were introduced during first repetition.
+     * This will usually require fewer repetitions than having each value
+     * decided on the fly, as long as the same parameters are introduced on
+     * each repetition. Must be set before the first repetition has completed.
+     * Planning is only applied if there are no parameters with
+     * a combination strength above pairwise, no wide-range parameters and
+     * no more than {@link #PLANNED_PAIRS_MAX} value pairs to cover.
+     */
+    public void setPlanCombinationsUpfront(boolean planCombinationsUpfront) {
+        this.planCombinationsUpfront = planCombinationsUpfront;
+    }
+
+    /**
+     * Start to record all value picks on this Lazer, so that they can be
+     * replayed on another Lazer instance, possibly on another JVM.
+     * Must be invoked before first value pick.
+     *
+     * @see #recordedPicks()
+     * @see #replayPicks(List)
+     */
+    public void recordPicks() {
+        if (null == recordedRepetitions) {
+            recordedRepetitions = new ArrayList<long[]>();
+            recordingRepetition = new long[16];
+        }
+    }
+
+    /**
+     * @return recorded picks (including picks of the ongoing repetition)
+     *         with one array per repetition, where each pick is encoded as a
+     *         long that holds a fingerprint of parameter definition
+     *         and the picked value index;
+     *         or null if this Lazer does not record its picks
+     * @see #recordPicks()
+     */
+    public List<long[]> recordedPicks() {
+        if (null == recordedRepetitions) {
+            return null;
+        }
+        List<long[]> allRepetitions = new ArrayList<long[]>(recordedRepetitions);
+        allRepetitions.add(Arrays.copyOf(recordingRepetition, recordingCount));
+        return allRepetitions;
+    }
+
+    /**
+     * Have repetitions of this Lazer replay picks that have been recorded
+     * on another Lazer, without any scoring on value options. Replay is
+     * abandoned as soon as a pick is made on a parameter that does not match
+     * the fingerprint of the recorded pick, in which case the picks continue
+     * to be decided on the fly.
+     * Must be invoked before first value pick.
+     *
+     * @param recordedPicks as returned by {@link #recordedPicks()}
+     */
+    public void replayPicks(List<long[]> recordedPicks) {
+        if (null != recordedPicks && false == recordedPicks.isEmpty()) {
+            replayRepetitions = recordedPicks;
+            replayIndex = 0;
+        }
+    }
+
+    /**
+     * Have the first repetitions include the specified combinations, one
+     * combination per repetition and in the specified order, e.g. in order
+     * to have a combination that once caused a production incident tried
+     * first on each run. Each combination maps parameter ids to value
+     * indexes and a parameter can also be identified by the
+     * {@link Object#toString() toString()} of its id. The values of a
+     * combination are picked (and have their combinations counted as covered)
+     * just like any other value pick, so there are fewer combinations left
+     * for the repetitions that follow. Parameters that are not mentioned by
+     * the combination - or have a value that cannot be picked, e.g. because it
+     * is forbidden by {@link #setConstraint(Constraint) constraint} - have
+     * their values picked as usual.
+     * <br/>
+     * Must be invoked before first value pick. Upfront planning is not
+     * applied on a Lazer that has more than one combination to include.
+     *
+     * @param combinations combinations to include or null for none
+     */
+    public void setMustIncludeCombinations(
+            List<? extends Map<?,Integer>> combinations) {
+        if (firstRepetition && pickCrumbValues.isEmpty()) {
+            mustIncludeCombinations = null == combinations || combinations.isEmpty()
+                    ? null : new ArrayList<Map<?,Integer>>(combinations);
+            mustIncludeIndex = 0;
+        }
+    }
+
+    /**
+     * Shrink this Lazer to a small {@link Summary}, once it is no longer
+     * going to be repeated. All statistics on parameters and values are
+     * released, so that a finished Lazer does not hold on to any memory
+     * while it might still be referenced - e.g. by the test-descriptor of
+     * a long test-suite. A retired Lazer has no pending combinations and
+     * must not be used for any more value picks.
+     * Picks that are recorded (see {@link #recordPicks()}) are also
+     * released, so they need to be collected before retirement.
+     *
+     * @return summary of this Lazer, which is the same summary on repeated
+     *         invocations
+     */
+    public Summary retire() {
+        if (null != retiredSummary) {
+            return retiredSummary;
+        }
+        retiredCoverage = coverage();
+        int completedRepetitions = repetitionCount;
+        if (CrumbsTrie.ROOT != crumbsNode) {
+            ++completedRepetitions;
+        }
+        retiredSummary = new Summary(coreStatKeys.size(),
+                (int) Math.min(Integer.MAX_VALUE,
+                        allValueInfos.size() + countUnmaterializedValues),
+                completedRepetitions, 0 == countOutstandingValues
+                && 0 == countUnmaterializedValues);
+
+        crumbs = new CrumbsTrie();
+        crumbsNode = CrumbsTrie.ROOT;
+        countParkedPrimaryValues = 0;
+        countOutstandingValues = 0;
+        countUnmaterializedValues = 0;
+        endOfLineKeys = new LongIntTable();
+        allValueInfos = new ArrayList<ValueInformation>(0);
+        recycledEnablerBits = new ArrayList<EnablerBits>(0);
+        pickCrumbValues = new ArrayList<ValueInformation>(0);
+        pickCrumbTuples = new ArrayList<TupleInformation>(0);
+        allTupleInfos = new ArrayList<TupleInformation>(0);
+        tupleIndexes = new LongIntTable();
+        satisfiedTupleCounts = new LongIntTable();
+        coreStatKeys = new HashMap<Lazynition, ValueInformation[]>(0);
+        wideRangeOptions = new IdentityHashMap<Lazynition,WideRangeOptions>(0);
+        levelScoresOnPick = new LevelScores[0];
+        firstIntroductions = new IdentityHashMap<Lazynition,Introduction>(0);
+        plannedParameters = null;
+        plannedRows = null;
+        replayRepetitions = null;
+        mustIncludeCombinations = null;
+        precomputedRepetition = false;
+        precomputedPicks = consumedPrecomputedPicks = 0;
+        precomputeSequence = null;
+        recordedRepetitions = null;
+        recordingRepetition = null;
+        return retiredSummary;
+    }
+
+    /**
+     * @return summary of this Lazer if it has been retired; otherwise null
+     * @see #retire()
      */
-    private final Map<Lazynition,ExpectedParameterRepetition> firstIntroductionStacks =
-            new IdentityHashMap<Lazynition,ExpectedParameterRepetition>();
+    public Summary retiredSummary() {
+        return retiredSummary;
+    }
+
+    /**
+     * Lease a repetition path of its own, so that repetitions can run
+     * concurrently on several threads - one lease per thread. The value picks
+     * of each lease are recorded independently, as if its repetitions had
+     * been run sequentially on this Lazer, while coverage statistics are
+     * shared by all leases. A lease is repeated with
+     * {@link Lease#startNew()}, after which it is ready for the value picks of
+     * another repetition.
+     * <br/>
+     * Leases synchronize on this Lazer, so that a value pick on one lease
+     * never interleaves with a value pick on another, whereas the test code
+     * that runs between value picks is free to run in parallel. Upfront
+     * planning, replay of recorded picks and must-include combinations are
+     * abandoned once leasing has started, because they follow a strictly
+     * sequential order of repetitions.
+     * Value picks directly on this Lazer (i.e. not on any lease)
+     * are not synchronized and must therefore not be made while there are
+     * leases that are in use.
+     *
+     * @return a new lease, which is initially at start of a new repetition
+     */
+    public Lease lease() {
+        synchronized (this) {
+            firstRepetition = false;
+            plannedParameters = null;
+            plannedRows = null;
+            replayRepetitions = null;
+            mustIncludeCombinations = null;
+            return new Lease();
+        }
+    }
 
     public void startNew() {
+        if (precomputedRepetition) {
+            precomputedRepetition = false;
+            return;
+        }
+        precomputedPicks = consumedPrecomputedPicks = 0;
+        precomputedOrderViolated = false;
+        if (CrumbsTrie.ROOT != crumbsNode) {
+            ++repetitionCount;
+            if (null != constraint && null == mustIncludeCombinations) {
+                long progress = countCoveredCombos - countUnpickedValues;
+                if (progress != progressAtStagnation) {
+                    stagnantRepetitions = 0;
+                } else if (rejectedOutstandingOption) {
+                    ++stagnantRepetitions;
+                }
+                progressAtStagnation = progress;
+            }
+        }
+        rejectedOutstandingOption = false;
+        if (null != recordedRepetitions) {
+            recordedRepetitions.add(Arrays.copyOf(recordingRepetition, recordingCount));
+            recordingCount = 0;
+        }
+        if (null != replayRepetitions) {
+            if (replayRepetitions.get(replayIndex).length != pickCrumbValues.size()
+                    || replayRepetitions.size() <= ++replayIndex) {
+                replayRepetitions = null;
+            }
+        }
+        if (null != mustIncludeCombinations
+                && mustIncludeCombinations.size() <= ++mustIncludeIndex) {
+            mustIncludeCombinations = null;
+        }
+        if (firstRepetition) {
+            firstRepetition = false;
+            if (planCombinationsUpfront) {
+                planUpfront();
+            }
+        } else if (null != plannedParameters) {
+            if (plannedParameters.length != pickCrumbValues.size()
+                    || plannedRows.size() <= ++plannedRowIndex) {
+                plannedParameters = null;
+                plannedRows = null;
+            }
+        }
         registerEndOfLineAtLastCrumbValue();
-        crumbsLog = "";
+        crumbsNode = CrumbsTrie.ROOT;
         countParkedPrimaryValues = 0;
         pickCrumbValues.clear();
+        pickCrumbTuples.clear();
+    }
+
+    /**
+     * Start a new repetition and have its value picks made ahead of time,
+     * e.g. on a background thread while the test framework is busy between
+     * repetitions. Picks are made on the parameters that earlier repetitions
+     * have introduced after the values that have been picked so far - and
+     * for as long as all repetitions have introduced the same sequence of
+     * parameters, the rest of that sequence is also picked. The following
+     * invocation of {@link #startNew()} only confirms the start of the
+     * precomputed repetition, after which each value pick on a precomputed
+     * parameter just returns its precomputed value and picks on other
+     * parameters are made as usual.
+     * <br/>
+     * The precomputed picks have their combinations registered as covered, so
+     * the test must ask for all of them and in the order they were made.
+     * Otherwise an {@link ExpectedParameterRepetition} is thrown, just like
+     * when a repetition does not introduce a parameter that an earlier
+     * repetition introduced on the same values - unless the picks that the
+     * test did not ask for are {@link #confirmPrecomputedPicks() confirmed},
+     * e.g. because the test failed before it got to them. Therefore a test
+     * that might introduce another parameter on some rare combination of
+     * values is not a good fit for precomputation.
+     * <br/>
+     * Picks are made while synchronizing on this Lazer, so that a concurrent
+     * {@link #coverage()} snapshot waits for them to finish, but there must
+     * be no other activity on this Lazer until they are finished.
+     * Must only be invoked when there are {@link #pendingCombinations()
+     * pending combinations} and must not be used on a Lazer that is leased.
+     *
+     * @return true if all parameters of the stabilized sequence have been
+     *         precomputed, i.e. if the whole repetition is known without
+     *         running the test; otherwise false
+     */
+    public boolean precomputeNextRepetition() {
+        synchronized (this) {
+            if (precomputedRepetition) {
+                return false;
+            }
+            Lazynition[] sequence = new Lazynition[pickCrumbValues.size()];
+            for (int i = 0; i < sequence.length; ++i) {
+                sequence[i] = pickCrumbValues.get(i).parameterDefinition;
+            }
+            boolean stabilized = false;
+            if (null == precomputeSequence) {
+                precomputeSequence = sequence;
+            } else if (Arrays.equals(sequence, precomputeSequence)) {
+                stabilized = false == precomputeSequenceVaried;
+            } else {
+                precomputeSequenceVaried = true;
+            }
+            startNew();
+            while (true) {
+                int position = pickCrumbValues.size();
+                Lazynition next = crumbs.reservationAt(crumbsNode);
+                if (null == next && stabilized && position < sequence.length) {
+                    next = sequence[position];
+                }
+                if (null == next || null != pickedValueOn(next)) {
+                    break;
+                }
+                pick(next.paramId, next.combinationStrength, next.valueRange, null);
+            }
+            precomputedPicks = pickCrumbValues.size();
+            precomputedRepetition = true;
+            return stabilized && sequence.length == precomputedPicks;
+        }
+    }
+
+    /**
+     * Have all precomputed picks of current repetition count as if the test
+     * has asked for them. It is used when the test failed before it got to
+     * all of them - or when the whole precomputed repetition is run on
+     * another JVM, in which case this also completes the repetition, as if
+     * the test had asked for all its picks, so that
+     * {@link #pendingCombinations()} can be evaluated and another repetition
+     * can be precomputed.
+     * Picks are not confirmed if the test has asked for them out of order,
+     * so that the inconsistency is still reported by
+     * {@link #pendingCombinations()}.
+     *
+     * @see #precomputeNextRepetition()
+     */
+    public void confirmPrecomputedPicks() {
+        precomputedRepetition = false;
+        if (false == precomputedOrderViolated) {
+            consumedPrecomputedPicks = precomputedPicks;
+        }
+    }
+
+    /**
+     * @return value that has been picked on parameter during current
+     *         repetition or null if parameter has not yet been picked
+     */
+    private ValueInformation pickedValueOn(Lazynition paramDefinition) {
+        for (int i = 0; i < pickCrumbValues.size(); ++i) {
+            ValueInformation valueAlreadyPicked = pickCrumbValues.get(i);
+            if (paramDefinition == valueAlreadyPicked.parameterDefinition) {
+                return valueAlreadyPicked;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Keeps track of the test asking for the precomputed picks in the order
+     * they were made.
+     * @param position position of the pick that the test asks for
+     * @see #precomputeNextRepetition()
+     */
+    private <E extends Throwable> void enforcePrecomputedOrder(int position)
+    throws E {
+        if (position == consumedPrecomputedPicks) {
+            ++consumedPrecomputedPicks;
+        } else if (consumedPrecomputedPicks < position) {
+            /* Test skipped a precomputed parameter: */
+            precomputedOrderViolated = true;
+            throw (E) firstIntroductions.get(pickCrumbValues
+                    .get(consumedPrecomputedPicks).parameterDefinition).reported();
+        }
+    }
+
+    private void planUpfront() {
+        int width = pickCrumbValues.size();
+        if (width <= 1 || null != constraint || null != mustIncludeCombinations) {
+            return;
+        }
+        Lazynition[] parameters = new Lazynition[width];
+        int[] valueRanges = new int[width];
+        boolean[] combined = new boolean[width];
+        int[] firstRow = new int[width];
+        long pairCount = 0;
+        for (int i = 0; i < width; ++i) {
+            ValueInformation picked = pickCrumbValues.get(i);
+            if (3 <= picked.stats.combinationStrength
+                    || picked.parameterDefinition.isWideRange()) {
+                return;
+            }
+            parameters[i] = picked.parameterDefinition;
+            valueRanges[i] = picked.parameterDefinition.valueRange;
+            combined[i] = picked.stats.combined;
+            firstRow[i] = picked.itemValueIndex;
+            for (int j = 0; combined[i] && j < i; ++j) {
+                if (combined[j]) {
+                    pairCount += (long) valueRanges[j] * valueRanges[i];
+                }
+            }
+            if (PLANNED_PAIRS_MAX < pairCount) {
+                return;
+            }
+        }
+        List<int[]> rows = CoveringArrayPlanner.plan(valueRanges, combined, firstRow);
+        if (2 <= rows.size()) {
+            plannedParameters = parameters;
+            plannedRows = rows;
+            plannedRowIndex = 1;
+        }
+    }
+
+    /**
+     * @return planned value or null if there is no plan for parameter
+     */
+    private ValueInformation plannedPick(
+            Lazynition paramDefinition, ValueInformation[] valueOptions) {
+        if (null == plannedParameters) {
+            return null;
+        }
+        int position = pickCrumbValues.size();
+        if (position < plannedParameters.length
+                && paramDefinition == plannedParameters[position]) {
+            return valueOptions[plannedRows.get(plannedRowIndex)[position]];
+        }
+        /* Repetition deviates from plan - so abandon it: */
+        plannedParameters = null;
+        plannedRows = null;
+        return null;
+    }
+
+    /**
+     * @return value of the combination that is to be included on current
+     *         repetition or null if there is no such value for parameter
+     * @see #setMustIncludeCombinations(List)
+     */
+    private ValueInformation mustIncludePick(
+            Lazynition paramDefinition, ValueInformation[] valueOptions) {
+        if (null == mustIncludeCombinations) {
+            return null;
+        }
+        Map<?,Integer> combination = mustIncludeCombinations.get(mustIncludeIndex);
+        Integer valueIndex = combination.get(paramDefinition.paramId);
+        if (null == valueIndex) {
+            valueIndex = combination.get(String.valueOf(paramDefinition.paramId));
+        }
+        if (null != valueIndex && 0 <= valueIndex
+                && valueIndex < valueOptions.length
+                && null != valueOptions[valueIndex]
+                && false == isForbiddenOnCrumbs(valueOptions[valueIndex])) {
+            /* Evaluate options anyway, because evaluation is what registers
+             * the pending combos of the other options: */
+            makePick(valueOptions);
+            return valueOptions[valueIndex];
+        }
+        return null;
+    }
+
+    private static long recordOf(ValueInformation pickedValue) {
+        return (long)pickedValue.parameterDefinition.fingerprint() << 32
+                | pickedValue.itemValueIndex;
+    }
+
+    /**
+     * @return replayed value or null if there is nothing to replay
+     */
+    private ValueInformation replayedPick(
+            Lazynition paramDefinition, ValueInformation[] valueOptions) {
+        if (null == replayRepetitions) {
+            return null;
+        }
+        long[] replayed = replayRepetitions.get(replayIndex);
+        int position = pickCrumbValues.size();
+        if (position < replayed.length && paramDefinition.fingerprint()
+                == (int) (replayed[position] >>> 32)) {
+            int valueIndex = (int)replayed[position];
+            if (valueIndex < valueOptions.length
+                    && null != valueOptions[valueIndex]
+                    && false == isForbiddenOnCrumbs(valueOptions[valueIndex])) {
+                return valueOptions[valueIndex];
+            }
+        }
+        /* Parameter does not match recorded pick (or the recorded value is
+         * not yet materialized on a wide-range parameter or is forbidden by
+         * constraint) - so abandon replay: */
+        replayRepetitions = null;
+        return null;
     }
 
     private void registerEndOfLineAtLastCrumbValue() {
@@ -73,75 +934,301 @@ public class Lazer {
     }
 
     public boolean pendingCombinations() throws ExpectedParameterRepetition {
-        if (reservedCrumbs.containsKey(crumbsLog)) {
-            throw firstIntroductionStacks.get(reservedCrumbs.get(crumbsLog));
+        if (consumedPrecomputedPicks < precomputedPicks) {
+            /* Test did not ask for all precomputed picks: */
+            throw firstIntroductions.get(pickCrumbValues
+                    .get(consumedPrecomputedPicks).parameterDefinition).reported();
+        }
+        Lazynition reserved = crumbs.reservationAt(crumbsNode);
+        if (null != reserved) {
+            throw firstIntroductions.get(reserved).reported();
         }
+        return hasPendingCombinations();
+    }
 
-        for (ValueInformation[] valueInfoOfOptions : coreStatKeys.values()) {
-            for (ValueInformation valueInfo : valueInfoOfOptions) {
-                if (0 < valueInfo.stats.forwardRequestCount
-                        || valueInfo.stats.totalCount <= 0) {
-                    return true;
-                }
+    private boolean hasPendingCombinations() {
+        if (null != mustIncludeCombinations
+                && mustIncludeIndex + 1 < mustIncludeCombinations.size()) {
+            return true;
+        } else if (isGivenUpOnPendingCombinations()) {
+            return false;
+        }
+        return 0 < countOutstandingValues || 0 < countUnmaterializedValues
+                || null != plannedParameters
+                && plannedRowIndex + 1 < plannedRows.size()
+                || null != replayRepetitions
+                && replayIndex + 1 < replayRepetitions.size();
+    }
+
+    /**
+     * @return true if remaining combinations seem to be unreachable under
+     *         constraint
+     */
+    private boolean isGivenUpOnPendingCombinations() {
+        return MAX_STAGNANT_REPETITIONS <= stagnantRepetitions;
+    }
+
+    /**
+     * Snapshot of how far this Lazer has come in covering its combinations.
+     * All figures are maintained as picks are made, so a snapshot is cheap
+     * and can be taken at any time, e.g. in order to follow the progress of
+     * a long-running test on some dashboard. It is safe to take a snapshot
+     * while there are leases in use.
+     *
+     * @return coverage of this Lazer, which is the coverage at time of
+     *         retirement if this Lazer has been retired
+     * @see #lease()
+     * @see #retire()
+     */
+    public Coverage coverage() {
+        synchronized (this) {
+            if (null != retiredCoverage) {
+                return retiredCoverage;
+            }
+            int repetitions = CrumbsTrie.ROOT == crumbsNode
+                    ? repetitionCount : repetitionCount + 1;
+            long unpickedValues = countUnpickedValues + countUnmaterializedValues;
+            long estimatedRemainder = 0;
+            if (hasPendingCombinations()) {
+                /* Assume progress continues at the average pace so far: */
+                estimatedRemainder = Math.max(1, Math.max(
+                        remainderAtAveragePace(countPendingCombos,
+                                countCoveredCombos, repetitions),
+                        remainderAtAveragePace(unpickedValues,
+                                allValueInfos.size() - countUnpickedValues,
+                                repetitions)));
             }
+            return new Coverage(countCoveredCombos + countPendingCombos,
+                    countCoveredCombos, countPendingCombos, unpickedValues,
+                    repetitions, estimatedRemainder,
+                    isGivenUpOnPendingCombinations()
+                    ? countPendingCombos + unpickedValues : 0);
+        }
+    }
+
+    private static long remainderAtAveragePace(
+            long remainder, long progress, int repetitions) {
+        if (remainder <= 0) {
+            return 0;
+        } else if (progress <= 0 || repetitions <= 0) {
+            return remainder;
+        } else {
+            return (remainder * repetitions + progress - 1) / progress;
         }
-        return false;
     }
 
     public int pick(Object paramId, boolean combinePairwise, int numberOfValues) {
-        int valuesMax = 65480;
-        if (valuesMax < numberOfValues) {
-            throw new IllegalArgumentException("At most " + valuesMax
-                    + " is supported - but was " + numberOfValues);
+        return pick(paramId, combinePairwise ? 2 : 1, numberOfValues);
+    }
+
+    /**
+     * @param combinationStrength 1 (or less) for a parameter that is not
+     *        combined, 2 for pairwise combining and 3 or more for t-wise
+     *        combining, where each value will be combined with all tuples of
+     *        (combinationStrength - 1) upstream values that are picked on
+     *        parameters that have at least the same combination strength.
+     * @param numberOfValues any positive number - but a parameter with more
+     *        than 65480 values is a wide-range parameter, on which each value
+     *        is picked in order of value index (i.e. first pick is zero and
+     *        so on) until all values have been picked at least once. Only
+     *        values that have been picked take part in the combining
+     *        evaluations of later picks, so the memory and time spent on a
+     *        wide-range parameter is proportional to the number of distinct
+     *        values that are actually picked - rather than its value range.
+     *        Wide-range parameters are never planned upfront.
+     * @see #setPlanCombinationsUpfront(boolean)
+     */
+    public int pick(Object paramId, int combinationStrength, int numberOfValues) {
+        return pick(paramId, combinationStrength, numberOfValues, null);
+    }
+
+    /**
+     * Value pick on a parameter that has a relative cost on each value, e.g.
+     * a value that requires a heavyweight container to be started can have
+     * a cost that is much higher than a value that is an in-memory stub.
+     * Value options with different costs are evaluated on the number of
+     * combinations they can satisfy per cost, so that an expensive value is
+     * preferably picked when it can satisfy many combinations at once - and
+     * otherwise a cheaper value is picked. Each value is still picked at
+     * least once and all combinations are still covered, but usually with
+     * fewer picks of the expensive values, which might take a few more
+     * repetitions in total.
+     * <br/>
+     * The costs are applied when the parameter is introduced, i.e. the costs
+     * of later picks on the same parameter are ignored.
+     *
+     * @param valueCosts positive cost of each value, which number of values
+     *        must not exceed 65480
+     * @see #pick(Object,int,int)
+     */
+    public int pick(Object paramId, int combinationStrength, double[] valueCosts) {
+        if (DENSE_RANGE_MAX < valueCosts.length) {
+            throw new IllegalArgumentException(
+                    "Too many values for costs: " + valueCosts.length);
+        }
+        for (double eachCost : valueCosts) {
+            if (false == 0 < eachCost || Double.isInfinite(eachCost)) {
+                throw new IllegalArgumentException(
+                        "Value cost must be positive - but was " + eachCost);
+            }
         }
-        return pick(paramId, combinePairwise, (char)numberOfValues);
+        return pick(paramId, combinationStrength, valueCosts.length, valueCosts);
     }
 
-    private int pick(Object paramId, boolean combinePairwise, char numberOfValues) {
-        Lazynition paramDefinition = new Lazynition(paramId, combinePairwise, numberOfValues);
-        ValueInformation[] valueOptions = coreStatKeys.get(paramDefinition);
+    private int pick(Object paramId, int combinationStrength,
+            int numberOfValues, double[] valueCostsOrNull) {
+        if (numberOfValues <= 0) {
+            throw new IllegalArgumentException(
+                    "Must have at least one value - but was " + numberOfValues);
+        }
+        if (null != retiredSummary) {
+            throw new IllegalStateException(
+                    "Value pick on retired Lazer: " + retiredSummary);
+        }
+        combinationStrength = Math.max(1, combinationStrength);
+        ValueInformation[] valueOptions = coreStatKeys.get(
+                lookupKey.reset(paramId, combinationStrength, numberOfValues));
+        lookupKey.reset(null, 1, 0);
+        Lazynition paramDefinition;
         if (null == valueOptions) {
-            valueOptions = new ValueInformation[numberOfValues];
-            for (char i = 0; i < numberOfValues; ++i) {
-                valueOptions[i] = new ValueInformation(paramDefinition, i);
+            paramDefinition = new Lazynition(paramId, combinationStrength, numberOfValues);
+            if (paramDefinition.isWideRange()) {
+                valueOptions = new WideRangeOptions(paramDefinition).options;
+            } else {
+                valueOptions = new ValueInformation[numberOfValues];
+                for (int i = 0; i < numberOfValues; ++i) {
+                    valueOptions[i] = new ValueInformation(paramDefinition, i);
+                }
+                if (null != valueCostsOrNull) {
+                    applyCosts(valueOptions, valueCostsOrNull);
+                }
             }
             coreStatKeys.put(paramDefinition, valueOptions);
-            firstIntroductionStacks.put(paramDefinition,
-                    new ExpectedParameterRepetition("... at '" + crumbsLog + "' pick"));
+            firstIntroductions.put(paramDefinition, new Introduction(crumbsNode));
         } else {
             paramDefinition = valueOptions[0].parameterDefinition;
-            for (ValueInformation valueAlreadyPicked : pickCrumbValues) {
+            for (int i = 0; i < pickCrumbValues.size(); ++i) {
+                ValueInformation valueAlreadyPicked = pickCrumbValues.get(i);
                 if (paramDefinition == valueAlreadyPicked.parameterDefinition) {
+                    if (i < precomputedPicks) {
+                        this.<Error>enforcePrecomputedOrder(i);
+                    }
                     return valueAlreadyPicked.itemValueIndex;
                 }
             }
         }
+        if (consumedPrecomputedPicks < precomputedPicks) {
+            this.<Error>enforcePrecomputedOrder(pickCrumbValues.size());
+        }
         this.<Error>enforceHistoricalCrumbsConsistency(paramDefinition);
-        ValueInformation pickedValue = makePick(valueOptions);
+        if (paramDefinition.isWideRange()) {
+            valueOptions = wideRangeOptions.get(paramDefinition).withUnpickedOption();
+        }
+        ValueInformation pickedValue = replayedPick(paramDefinition, valueOptions);
+        if (null == pickedValue) {
+            pickedValue = mustIncludePick(paramDefinition, valueOptions);
+        }
+        if (null == pickedValue) {
+            pickedValue = plannedPick(paramDefinition, valueOptions);
+        }
+        if (null == pickedValue && paramDefinition.isWideRange()) {
+            pickedValue = wideRangeOptions.get(paramDefinition).uncombinedUnpicked();
+            if (null != pickedValue && isForbiddenOnCrumbs(pickedValue)) {
+                rejectedOutstandingOption = true;
+                pickedValue = null;
+            }
+        }
+        if (null == pickedValue) {
+            pickedValue = makePick(valueOptions);
+        }
+        if (null != recordedRepetitions) {
+            if (recordingRepetition.length <= recordingCount) {
+                recordingRepetition = Arrays.copyOf(
+                        recordingRepetition, 2 * recordingCount);
+            }
+            recordingRepetition[recordingCount++] = recordOf(pickedValue);
+        }
         pickedValue.registerPick();
         return pickedValue.itemValueIndex;
     }
 
+    private void applyCosts(ValueInformation[] valueOptions, double[] valueCosts) {
+        for (int i = 0; i < valueOptions.length; ++i) {
+            valueOptions[i].stats.cost = valueCosts[i];
+            costWeighted |= 1 != valueCosts[i];
+        }
+    }
+
     private ValueInformation makePick(ValueInformation[] valueOptions) {
+        if (levelScoresOnPick.length < valueOptions.length) {
+            int oldLength = levelScoresOnPick.length;
+            levelScoresOnPick = Arrays.copyOf(levelScoresOnPick, valueOptions.length);
+            for (int i = oldLength; i < levelScoresOnPick.length; ++i) {
+                levelScoresOnPick[i] = new LevelScores();
+            }
+        }
         ValueInformation bestSoFar = null;
         for (int i = valueOptions.length; 0 <= --i;) {
-            if (valueOptions[i].stats.isBetterThan(bestSoFar)) {
+            if (null == valueOptions[i]) {
+                continue;
+            } else if (isForbiddenOnCrumbs(valueOptions[i])) {
+                rejectedOutstandingOption |= valueOptions[i].stats.isOutstanding();
+            } else if (valueOptions[i].stats.isBetterThan(bestSoFar)) {
                 bestSoFar = valueOptions[i];
             }
         }
+        if (null == bestSoFar) {
+            /* All options are forbidden by constraint, which therefore
+             * cannot be honored - so just take the lowest value index
+             * without evaluating (and registering combos on) any option: */
+            bestSoFar = valueOptions[0];
+        }
         return bestSoFar;
     }
 
+    /**
+     * @return true if value option is forbidden by {@link #constraint} in
+     *         combination with any of the values that have been picked on
+     *         current repetition
+     */
+    private boolean isForbiddenOnCrumbs(ValueInformation valueOption) {
+        if (null == constraint) {
+            return false;
+        }
+        for (int i = 0; i < pickCrumbValues.size(); ++i) {
+            ValueInformation upstreamValue = pickCrumbValues.get(i);
+            long verdictKey = (long)upstreamValue.valueInfoId << 32
+                    | valueOption.valueInfoId;
+            int verdict = constraintVerdicts.get(verdictKey);
+            if (verdict < 0) {
+                Object upstreamParamId = upstreamValue.parameterDefinition.paramId;
+                Object optionParamId = valueOption.parameterDefinition.paramId;
+                verdict = constraint.forbids(
+                        upstreamParamId, upstreamValue.itemValueIndex,
+                        optionParamId, valueOption.itemValueIndex)
+                        || constraint.forbids(
+                        optionParamId, valueOption.itemValueIndex,
+                        upstreamParamId, upstreamValue.itemValueIndex)
+                        ? 1 : 0;
+                constraintVerdicts.put(verdictKey, verdict);
+            }
+            if (1 == verdict) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private <E extends Throwable> void enforceHistoricalCrumbsConsistency(
             Lazynition paramDefinition)
     throws E {
-        Lazynition alreadyReserved = reservedCrumbs.put(crumbsLog, paramDefinition);
+        Lazynition alreadyReserved = crumbs.reserve(crumbsNode, paramDefinition);
 
         if (null != alreadyReserved && alreadyReserved != paramDefinition) {
             /* Put back and raise an error! */
-            reservedCrumbs.put(crumbsLog, alreadyReserved);
+            crumbs.reserve(crumbsNode, alreadyReserved);
             ExpectedParameterRepetition inconsistency =
-                    firstIntroductionStacks.get(alreadyReserved);
+                    firstIntroductions.get(alreadyReserved).reported();
             try {
                 inconsistency.addSuppressed(new Throwable("INCONSISTENCY DETECTED!"));
             } catch (Throwable addSuppressed_requires_java7_butJustIgnoreItOnMoreAncientJvms) {}
@@ -153,7 +1240,10 @@ public class Lazer {
     }
 
     private final class ValueStats {
+        private final int valueInfoId;
+        private final int itemValueIndex;
         private final boolean combined;
+        private final int combinationStrength;
         /**
          * Used by {@link #isTemporarilyParkedOnPrimaryValue()}
          */
@@ -183,6 +1273,18 @@ public class Lazer {
          * as forward value-picks register pending combos.
          */
         private volatile int enablerCount;
+        /**
+         * Sum of {@link #forwardRequestCount} on the tuples that have this
+         * value as one of its {@link TupleInformation#values}.
+         * Only used with t-wise combining, where it adds to
+         * {@link #forwardRequestCount} when value options are compared.
+         */
+        private volatile int tupleForwardRequestCount = 0;
+        /**
+         * Relative cost of picking this value.
+         * @see Lazer#pick(Object, int, double[])
+         */
+        private double cost = 1;
 
         /**
          * Satisfied when empty!
@@ -204,8 +1306,7 @@ public class Lazer {
          * null-entry to reference a set of {@link ValueInformation} instances that
          * can enable its first pick.
          */
-        private final Map<ValueInformation,Set<ValueInformation>> pendingCombos =
-                new HashMap<ValueInformation, Set<ValueInformation>>();
+        private final PendingCombos pendingCombos = new PendingCombos();
 
         /**
          * Satisfied when all value counters are zero!
@@ -233,36 +1334,49 @@ public class Lazer {
          */
         private final ValueInfoCounterSet satisfiedComboCounts = new ValueInfoCounterSet();
 
+        ValueStats(int valueInfoId, int itemValueIndex,
+                int combinationStrength, int primaryCountExceptionLookbackLength) {
+            this.valueInfoId = valueInfoId;
+            this.itemValueIndex = itemValueIndex;
+            this.combined = 2 <= combinationStrength;
+            this.combinationStrength = combinationStrength;
+            if (false == combined) {
+                pendingCombos.putNew(null);
+            }
+            this.lookbackSeed = primaryCountExceptionLookbackLength;
+        }
+
+        private long endOfLineKey() {
+            return (long)valueInfoId << 32 | crumbsNode;
+        }
+
+        /**
+         * @see Lazer#endOfLineKeys
+         */
+        private boolean isEndOfLine() {
+            return 0 <= endOfLineKeys.get(endOfLineKey());
+        }
+
         /**
          * Transient scoring info that will be reset each time
          * a pick is made for new upstream picks.
+         * It is only valid during the pick that is in progress.
          */
-        private final List<Long> levelScores = new ArrayList<Long>() {
-            @Override
-            public Long get(int index) {
-                for (int i = size(); i <= index; ++i) {
-                    add(0L);
-                }
-                return super.get(index);
-            }
-        };
+        private LevelScores levelScores() {
+            return levelScoresOnPick[itemValueIndex];
+        }
 
-        /**
-         * Keeps copies of the string-of-crumbs after which this
-         * value has ended up being the last value picked.
-         * Alternatively where all combinations of later parameter values are
-         * already walked through. This is a safe-guard against repeating
-         * value-picks that will lead nowhere new, i.e. that will not lead to
-         * unknown grounds where new combinations of parameter values can happen.
-         */
-        private final Set<String> endOfLineKeys = new HashSet<String>();
+        private boolean isCombinedWith(TupleInformation upstreamTuple) {
+            return upstreamTuple.arity < combinationStrength;
+        }
 
-        ValueStats(boolean combine, int primaryCountExceptionLookbackLength) {
-            this.combined = combine;
-            if (false == combine) {
-                pendingCombos.put(null, new ValueInfoCounterSet());
-            }
-            this.lookbackSeed = primaryCountExceptionLookbackLength;
+        private int satisfiedTupleCount(TupleInformation upstreamTuple) {
+            return Math.max(0, satisfiedTupleCounts.get(
+                    (long)upstreamTuple.valueInfoId << 32 | valueInfoId));
+        }
+
+        private int forwardRequests() {
+            return forwardRequestCount + tupleForwardRequestCount;
         }
 
         private boolean isTemporarilyParkedOnPrimaryValue() {
@@ -283,10 +1397,9 @@ public class Lazer {
             int lookbackCountdown = lookbackSeed - lookbackSeed / 5
                     + countParkedPrimaryValues / (lookbackSeed - 1);
 
-            ListIterator<ValueInformation> lookbackIteration =
-                    pickCrumbValues.listIterator(pickCrumbValues.size());
-            while (lookbackCountdown <= lookbackIteration.nextIndex()) {
-                ValueInformation lookbackInfo = lookbackIteration.previous();
+            for (int nextIndex = pickCrumbValues.size();
+                    lookbackCountdown <= nextIndex;) {
+                ValueInformation lookbackInfo = pickCrumbValues.get(--nextIndex);
 
                 if (false == lookbackInfo.stats.combined
                         || 1 == lookbackInfo.stats.lookbackSeed) {
@@ -311,26 +1424,42 @@ public class Lazer {
             return (1 + forwardRequestCount) * (2 + enablerCount);
         }
 
-        synchronized private List<Long> evaluateLevels() {
+        synchronized private LevelScores evaluateLevels() {
+            LevelScores levelScores = levelScores();
             if (false == pickCrumbValues.isEmpty() && levelScores.isEmpty()) {
-                int crumbScoreSize = Integer.MAX_VALUE / pickCrumbValues.size();
-                for (ValueInformation upstreamCombo : pickCrumbValues) {
+                int tupleComboCount = 0;
+                for (int i = 0; i < pickCrumbTuples.size(); ++i) {
+                    if (isCombinedWith(pickCrumbTuples.get(i))) {
+                        ++tupleComboCount;
+                    }
+                }
+                int crumbScoreSize = Integer.MAX_VALUE
+                        / (pickCrumbValues.size() + tupleComboCount);
+                for (int i = 0; i < pickCrumbValues.size(); ++i) {
+                    ValueInformation upstreamCombo = pickCrumbValues.get(i);
                     int level = satisfiedComboCounts.get(upstreamCombo);
                     if (0 == level && false == upstreamCombo.stats.combined) {
                         level = 1;
                     }
-                    levelScores.set(level, levelScores.get(level)
-                            + crumbScoreSize
+                    levelScores.add(level, (long) crumbScoreSize
                             - upstreamCombo.stats.forwardScore());
                 }
+                for (int i = 0; 0 < tupleComboCount && i < pickCrumbTuples.size(); ++i) {
+                    TupleInformation upstreamTuple = pickCrumbTuples.get(i);
+                    if (isCombinedWith(upstreamTuple)) {
+                        levelScores.add(satisfiedTupleCount(upstreamTuple),
+                                (long) crumbScoreSize - upstreamTuple.stats.forwardScore());
+                    }
+                }
                 long levelZeroScore = levelScores.get(0);
                 if (0 < levelZeroScore) {
                     /* Adjust for pending combos: */
                     levelZeroScore -= crumbScoreSize / (1+pendingCombos.size());
                     /* Deduct forward scores enablers
                      * that are not pending combos: */
-                    for (ValueInformation enabler : comboEnablerCounts) {
-                        levelZeroScore -= enabler.stats.forwardScore();
+                    for (int id = comboEnablerCounts.nextPositiveId(0); 0 <= id;
+                            id = comboEnablerCounts.nextPositiveId(id + 1)) {
+                        levelZeroScore -= allValueInfos.get(id).stats.forwardScore();
                     }
                     levelScores.set(0, levelZeroScore);
                 }
@@ -339,28 +1468,49 @@ public class Lazer {
         }
 
         synchronized private boolean isBetterThan(ValueInformation bestSoFar) {
-            if (false == pickCrumbValues.isEmpty()
-                    && endOfLineKeys.contains(crumbsLog)) {
+            if (false == pickCrumbValues.isEmpty() && isEndOfLine()) {
                 return null == bestSoFar;
             }
-            levelScores.clear(); /* Level-scores must be reset here! */
+            levelScores().clear(); /* Level-scores must be reset here! */
             if (combined) {
                 /*
                  * Walk through crumbs to look for new combos to satisfy!
                  */
-                for (ValueInformation upstreamCombo : pickCrumbValues) {
+                for (int i = 0; i < pickCrumbValues.size(); ++i) {
+                    ValueInformation upstreamCombo = pickCrumbValues.get(i);
                     if (upstreamCombo.stats.combined
                             && 0 == satisfiedComboCounts.get(upstreamCombo)) {
-                        Set<ValueInformation> enablers =
-                                pendingCombos.get(upstreamCombo);
+                        EnablerBits enablers = pendingCombos.get(upstreamCombo);
                         if (null == enablers) {
-                            pendingCombos.put(upstreamCombo,
-                                    enablers = new ValueInfoCounterSet());
-                            ++upstreamCombo.stats.forwardRequestCount;
+                            enablers = pendingCombos.putNew(upstreamCombo);
+                            upstreamCombo.increaseForwardRequestCount();
                         }
-                        for (ValueInformation upstreamEnablr : pickCrumbValues){
+                        for (int j = 0; j < pickCrumbValues.size(); ++j) {
+                            ValueInformation upstreamEnablr = pickCrumbValues.get(j);
                             if (upstreamEnablr != upstreamCombo
-                                    && enablers.add(upstreamEnablr)) {
+                                    && enablers.add(upstreamEnablr.valueInfoId)) {
+                                ++upstreamEnablr.stats.enablerCount;
+                                comboEnablerCounts.increase(upstreamEnablr);
+                            }
+                        }
+                    }
+                }
+                /*
+                 * ... and for new t-wise combos, unless pairwise:
+                 */
+                for (int i = 0; i < pickCrumbTuples.size(); ++i) {
+                    TupleInformation upstreamTuple = pickCrumbTuples.get(i);
+                    if (isCombinedWith(upstreamTuple)
+                            && 0 == satisfiedTupleCount(upstreamTuple)) {
+                        EnablerBits enablers = pendingCombos.get(upstreamTuple);
+                        if (null == enablers) {
+                            enablers = pendingCombos.putNew(upstreamTuple);
+                            upstreamTuple.increaseForwardRequestCount();
+                        }
+                        for (int j = 0; j < pickCrumbValues.size(); ++j) {
+                            ValueInformation upstreamEnablr = pickCrumbValues.get(j);
+                            if (false == upstreamTuple.hasValue(upstreamEnablr)
+                                    && enablers.add(upstreamEnablr.valueInfoId)) {
                                 ++upstreamEnablr.stats.enablerCount;
                                 comboEnablerCounts.increase(upstreamEnablr);
                             }
@@ -368,28 +1518,49 @@ public class Lazer {
                     }
                 }
             } else if (totalCount <= 0) {
-                Set<ValueInformation> enablers = pendingCombos.get(null);
-                for (ValueInformation upstreamEnablr : pickCrumbValues) {
-                    if (enablers.add(upstreamEnablr)) {
+                EnablerBits enablers = pendingCombos.get(null);
+                for (int i = 0; i < pickCrumbValues.size(); ++i) {
+                    ValueInformation upstreamEnablr = pickCrumbValues.get(i);
+                    if (enablers.add(upstreamEnablr.valueInfoId)) {
                         ++upstreamEnablr.stats.enablerCount;
                     }
                 }
             }
+            if (null != tieBreaker && null != bestSoFar
+                    && 0 == totalCount && 0 == bestSoFar.stats.totalCount) {
+                return isPreferredOnTie(bestSoFar);
+            }
             if (null == bestSoFar || 0 == totalCount
                     || 0 == bestSoFar.stats.totalCount
                     && isTemporarilyParkedOnPrimaryValue()
-                    || bestSoFar.stats.endOfLineKeys.contains(crumbsLog)) {
+                    || bestSoFar.stats.isEndOfLine()) {
                 return true;
             }
             ValueStats bestStatsSoFar = bestSoFar.stats;
-            if (0 == bestStatsSoFar.totalCount
-                    || forwardRequestCount < bestStatsSoFar.forwardRequestCount) {
+            if (0 == bestStatsSoFar.totalCount) {
+                return false;
+            } else if (costWeighted && cost != bestStatsSoFar.cost) {
+                /* Combinations that can be satisfied per cost: */
+                double benefitDiff = (countUncoveredOnCrumbs() + forwardRequests())
+                        / cost - (bestStatsSoFar.countUncoveredOnCrumbs()
+                        + bestStatsSoFar.forwardRequests()) / bestStatsSoFar.cost;
+                if (0 != benefitDiff) {
+                    return 0 < benefitDiff;
+                }
+            } else if (preferUncoveredCombinations) {
+                int uncoveredDiff = countUncoveredOnCrumbs()
+                        - bestStatsSoFar.countUncoveredOnCrumbs();
+                if (0 != uncoveredDiff) {
+                    return 0 < uncoveredDiff;
+                }
+            }
+            if (forwardRequests() < bestStatsSoFar.forwardRequests()) {
                 return false;
-            } else  if (bestStatsSoFar.forwardRequestCount < forwardRequestCount) {
+            } else  if (bestStatsSoFar.forwardRequests() < forwardRequests()) {
                 return true;
             }
-            evaluateLevels();
-            List<Long> bestSoFarLevels = bestStatsSoFar.evaluateLevels();
+            LevelScores levelScores = evaluateLevels();
+            LevelScores bestSoFarLevels = bestStatsSoFar.evaluateLevels();
             if (1 <= levelScores.size()) {
                 long level0Diff = levelScores.get(0) - bestSoFarLevels.get(0);
                 if (0 != level0Diff) {
@@ -410,7 +1581,60 @@ public class Lazer {
                 }
             }
             /* Total count is the final tie breaker: */
-            return totalCount <= bestStatsSoFar.totalCount;
+            if (totalCount != bestStatsSoFar.totalCount || null == tieBreaker) {
+                return totalCount <= bestStatsSoFar.totalCount;
+            }
+            return isPreferredOnTie(bestSoFar);
+        }
+
+        /**
+         * @return number of combinations that this value would cover
+         *         if it was picked on current repetition
+         */
+        private int countUncoveredOnCrumbs() {
+            int uncoveredCount = 0;
+            if (combined) {
+                for (int i = 0; i < pickCrumbValues.size(); ++i) {
+                    ValueInformation upstreamCombo = pickCrumbValues.get(i);
+                    if (upstreamCombo.stats.combined
+                            && 0 == satisfiedComboCounts.get(upstreamCombo)) {
+                        ++uncoveredCount;
+                    }
+                }
+                for (int i = 0; i < pickCrumbTuples.size(); ++i) {
+                    TupleInformation upstreamTuple = pickCrumbTuples.get(i);
+                    if (isCombinedWith(upstreamTuple)
+                            && 0 == satisfiedTupleCount(upstreamTuple)) {
+                        ++uncoveredCount;
+                    }
+                }
+            }
+            return uncoveredCount;
+        }
+
+        private boolean isPreferredOnTie(ValueInformation bestSoFar) {
+            int fingerprint = bestSoFar.parameterDefinition.fingerprint();
+            return tieBreaker.rank(fingerprint, bestSoFar.itemValueIndex, repetitionCount)
+                    <= tieBreaker.rank(fingerprint, itemValueIndex, repetitionCount);
+        }
+
+        /**
+         * @see Lazer#countOutstandingValues
+         */
+        private boolean isOutstanding() {
+            return totalCount <= 0 || 0 < forwardRequestCount;
+        }
+
+        private void increaseForwardRequestCount() {
+            if (1 == ++forwardRequestCount && 0 < totalCount) {
+                ++countOutstandingValues;
+            }
+        }
+
+        private void decreaseForwardRequestCount() {
+            if (0 == --forwardRequestCount && 0 < totalCount) {
+                --countOutstandingValues;
+            }
         }
 
         private double weightedEnablerCount() {
@@ -486,7 +1710,10 @@ public class Lazer {
         int add(ValueInformation vInfo, int delta) {
             if (counts.length <= vInfo.valueInfoId) {
                 int oldLength = counts.length;
-                counts = Arrays.copyOf(counts, allValueInfos.size());
+                /* Only grow as far as needed (but at least double), because
+                 * ids of values on wide-range parameters can be many: */
+                counts = Arrays.copyOf(counts, Math.max(vInfo.valueInfoId + 1,
+                        Math.min(2 * oldLength, allValueInfos.size())));
                 if (0 != initialValue) {
                     Arrays.fill(counts, oldLength, counts.length, initialValue);
                 }
@@ -500,6 +1727,20 @@ public class Lazer {
         int increase(ValueInformation vInfo) { return add(vInfo,  1); }
         int decrease(ValueInformation vInfo) { return add(vInfo, -1); }
 
+        /**
+         * Iteration alternative that does not allocate any iterator.
+         * @return first id, equal to or greater than specified id, that
+         *         has a positive count - or -1 if there is none
+         */
+        int nextPositiveId(int fromId) {
+            for (int id = fromId; id < counts.length; ++id) {
+                if (0 < counts[id]) {
+                    return id;
+                }
+            }
+            return -1;
+        }
+
         int get(ValueInformation vInfo) {
             if (counts.length <= vInfo.valueInfoId) {
                 return initialValue;
@@ -518,103 +1759,590 @@ public class Lazer {
             if (counts.length <= infoId || 0 == counts[infoId])  {
                 return false;
             }
-            counts[infoId] = 0;
-            --size;
-            return true;
-        }
-        @Override
-        public boolean remove(Object vInfo) {
-            return removeAt(((ValueInformation) vInfo).valueInfoId);
+            counts[infoId] = 0;
+            --size;
+            return true;
+        }
+        @Override
+        public boolean remove(Object vInfo) {
+            return removeAt(((ValueInformation) vInfo).valueInfoId);
+        }
+        @Override
+        public int size() {
+            assert 0 == initialValue
+                    : "Size is only supported when count starts at 0,"
+                    + " i.e. when there are no spooky defaults.";
+            return size;
+        }
+    }
+
+    /**
+     * Set of {@link ValueInformation#valueInfoId} values that enable a single
+     * pending combo. Each id is a single bit, which keeps the enablers of
+     * a pending combo at one bit per {@link ValueInformation} instance - instead
+     * of one int per instance, as would have been the case with a
+     * {@link ValueInfoCounterSet}.
+     * Instances are recycled on {@link #recycledEnablerBits} once their pending
+     * combo is satisfied.
+     */
+    private final class EnablerBits {
+        private long[] words = new long[(allValueInfos.size() + 63) >>> 6];
+
+        boolean add(int valueInfoId) {
+            int wordIndex = valueInfoId >>> 6;
+            if (words.length <= wordIndex) {
+                words = Arrays.copyOf(words, (allValueInfos.size() + 63) >>> 6);
+            }
+            long bit = 1L << valueInfoId;
+            if (0 != (words[wordIndex] & bit)) {
+                return false;
+            }
+            words[wordIndex] |= bit;
+            return true;
+        }
+
+        /**
+         * @return first id that is equal to or greater than specified id -
+         *         or -1 if there is none
+         */
+        int nextId(int fromId) {
+            int wordIndex = fromId >>> 6;
+            if (words.length <= wordIndex) {
+                return -1;
+            }
+            for (long word = words[wordIndex] & (-1L << fromId);;
+                    word = words[wordIndex]) {
+                if (0 != word) {
+                    return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                } else if (words.length <= ++wordIndex) {
+                    return -1;
+                }
+            }
+        }
+
+        void recycle() {
+            Arrays.fill(words, 0L);
+            recycledEnablerBits.add(this);
+        }
+    }
+
+    /**
+     * Replaces a map from upstream combo {@link ValueInformation} to its
+     * {@link EnablerBits}. Entries are keyed on
+     * {@link ValueInformation#valueInfoId} in an open-addressing table, so
+     * that there are no boxed entries or hash-sets per pending combo.
+     * The null-key (only used on uncombined parameter values) is kept on a
+     * field of its own.
+     */
+    private final class PendingCombos {
+        /**
+         * Keys are valueInfoId + 1, so that zero can mark an empty slot.
+         * (Tuples have negative ids below -1 and therefore never get key zero.)
+         */
+        private int[] keys = new int[0];
+        private EnablerBits[] enablers = new EnablerBits[0];
+        private int keyCount = 0;
+        private EnablerBits nullKeyEnablers;
+
+        int size() {
+            return null == nullKeyEnablers ? keyCount : keyCount + 1;
+        }
+
+        private int homeSlot(int key) {
+            int hash = key * 0x9E3779B9;
+            return (hash ^ hash >>> 16) & keys.length - 1;
+        }
+
+        private int slotOf(int key) {
+            int mask = keys.length - 1;
+            for (int slot = homeSlot(key);; slot = slot + 1 & mask) {
+                if (key == keys[slot] || 0 == keys[slot]) {
+                    return slot;
+                }
+            }
+        }
+
+        EnablerBits get(ValueInformation combo) {
+            if (null == combo) {
+                return nullKeyEnablers;
+            } else if (0 == keyCount) {
+                return null;
+            } else {
+                return enablers[slotOf(combo.valueInfoId + 1)];
+            }
+        }
+
+        /**
+         * Must only be invoked when there is no entry for the specified combo.
+         * @return new and empty enablers of the specified combo
+         */
+        EnablerBits putNew(ValueInformation combo) {
+            EnablerBits newEnablers = recycledEnablerBits.isEmpty()
+                    ? new EnablerBits()
+                    : recycledEnablerBits.remove(recycledEnablerBits.size() - 1);
+            if (null == combo) {
+                return nullKeyEnablers = newEnablers;
+            }
+            if (keys.length <= 2 * keyCount) {
+                int[] oldKeys = keys;
+                EnablerBits[] oldEnablers = enablers;
+                keys = new int[Math.max(8, 2 * oldKeys.length)];
+                enablers = new EnablerBits[keys.length];
+                for (int i = 0; i < oldKeys.length; ++i) {
+                    if (0 != oldKeys[i]) {
+                        int slot = slotOf(oldKeys[i]);
+                        keys[slot] = oldKeys[i];
+                        enablers[slot] = oldEnablers[i];
+                    }
+                }
+            }
+            int key = combo.valueInfoId + 1;
+            int slot = slotOf(key);
+            keys[slot] = key;
+            enablers[slot] = newEnablers;
+            ++keyCount;
+            ++countPendingCombos;
+            return newEnablers;
+        }
+
+        /**
+         * @return enablers of removed combo or null if there was no such combo
+         */
+        EnablerBits remove(ValueInformation combo) {
+            if (null == combo) {
+                try {
+                    return nullKeyEnablers;
+                } finally {
+                    nullKeyEnablers = null;
+                }
+            } else if (0 == keyCount) {
+                return null;
+            }
+            int slot = slotOf(combo.valueInfoId + 1);
+            EnablerBits removed = enablers[slot];
+            if (null == removed) {
+                return null;
+            }
+            /* Shift back subsequent entries of the probe sequence: */
+            int mask = keys.length - 1;
+            for (int next = slot + 1 & mask; 0 != keys[next]; next = next + 1 & mask) {
+                int home = homeSlot(keys[next]);
+                if ((next - home & mask) >= (next - slot & mask)) {
+                    keys[slot] = keys[next];
+                    enablers[slot] = enablers[next];
+                    slot = next;
+                }
+            }
+            keys[slot] = 0;
+            enablers[slot] = null;
+            --keyCount;
+            --countPendingCombos;
+            return removed;
+        }
+    }
+
+    private class ValueInformation {
+        private final Lazynition parameterDefinition;
+        private final int itemValueIndex;
+        final ValueStats stats;
+
+        final int valueInfoId;
+
+        @SuppressWarnings("LeakingThisInConstructor")
+        ValueInformation(Lazynition item, int itemValueIndex) {
+            this.parameterDefinition = item;
+            this.itemValueIndex = itemValueIndex;
+            this.valueInfoId = allValueInfos.size();
+            this.stats = new ValueStats(valueInfoId, itemValueIndex,
+                    item.combinationStrength,
+                    /* Seed lookback with value-range on primary value if combined: */
+                    2 <= item.combinationStrength && 0 == itemValueIndex
+                    ? item.valueRange : 0);
+            allValueInfos.add(this);
+            ++countOutstandingValues;
+            ++countUnpickedValues;
+        }
+
+        /**
+         * Constructor for {@link TupleInformation}, which is not the value of
+         * any parameter and is never counted as an outstanding value until
+         * it receives forward requests.
+         */
+        ValueInformation(int tupleInfoId, int tupleStrength) {
+            this.parameterDefinition = null;
+            this.itemValueIndex = -1;
+            this.valueInfoId = tupleInfoId;
+            this.stats = new ValueStats(tupleInfoId, -1, tupleStrength, 0);
+            this.stats.totalCount = 1;
+        }
+
+        void increaseForwardRequestCount() {
+            stats.increaseForwardRequestCount();
+        }
+
+        void decreaseForwardRequestCount() {
+            stats.decreaseForwardRequestCount();
+        }
+
+        private void retirePendingCombo(
+                ValueInformation combo2register, ValueStats comboTarget) {
+            EnablerBits enablers = comboTarget.pendingCombos.remove(combo2register);
+            if (null != enablers) {
+                combo2register.decreaseForwardRequestCount();
+                if (combo2register instanceof TupleInformation == false) {
+                    comboTarget.comboEnablerCounts.add(combo2register, Integer.MAX_VALUE);
+                }
+                for (int id = enablers.nextId(0); 0 <= id; id = enablers.nextId(id+1)) {
+                    ValueInformation eachRetiredEnabler = allValueInfos.get(id);
+                    comboTarget.comboEnablerCounts.decrease(eachRetiredEnabler);
+                    --eachRetiredEnabler.stats.enablerCount;
+                }
+                enablers.recycle();
+            }
+        }
+
+        private synchronized void registerPick() {
+            if (1 == ++stats.totalCount) {
+                --countUnpickedValues;
+                if (0 == stats.forwardRequestCount) {
+                    --countOutstandingValues;
+                }
+            }
+            if (1 == stats.totalCount && false == stats.combined) {
+                EnablerBits enablers = stats.pendingCombos.remove(null);
+                for (int id = enablers.nextId(0); 0 <= id; id = enablers.nextId(id+1)) {
+                    --allValueInfos.get(id).stats.enablerCount;
+                }
+                enablers.recycle();
+            }
+            for (int i = 0; i < pickCrumbValues.size(); ++i) {
+                ValueInformation combo2register = pickCrumbValues.get(i);
+                if (1 == stats.satisfiedComboCounts.increase(combo2register)) {
+                    if (false == combo2register.stats.combined) {
+                        /* When not combined a default count of 1 is enforced
+                         * when not yet increased. - Therefore an increase to 1
+                         * must be increased again to manifest an actual increase: */
+                        stats.satisfiedComboCounts.increase(combo2register);
+                    } else if (stats.combined) {
+                        ++countCoveredCombos;
+                    }
+                }
+                retirePendingCombo(combo2register, stats);
+            }
+            if (3 <= stats.combinationStrength) {
+                registerTuplePick();
+            }
+            crumbsNode = crumbs.childOf(crumbsNode, itemValueIndex);
+            pickCrumbValues.add(this);
+        }
+
+        /**
+         * Satisfies the t-wise combos of this value and then extends the
+         * tuples of current repetition with this value, so that the extended
+         * tuples can be combined with downstream values.
+         */
+        private void registerTuplePick() {
+            int upstreamTupleCount = pickCrumbTuples.size();
+            for (int i = 0; i < upstreamTupleCount; ++i) {
+                TupleInformation tuple2register = pickCrumbTuples.get(i);
+                if (stats.isCombinedWith(tuple2register)) {
+                    long satisfiedKey = (long)tuple2register.valueInfoId << 32 | valueInfoId;
+                    int satisfiedCount = stats.satisfiedTupleCount(tuple2register);
+                    if (0 == satisfiedCount) {
+                        ++countCoveredCombos;
+                    }
+                    satisfiedTupleCounts.put(satisfiedKey, 1 + satisfiedCount);
+                    retirePendingCombo(tuple2register, stats);
+                }
+            }
+            for (int i = 0; i < pickCrumbValues.size(); ++i) {
+                ValueInformation upstreamValue = pickCrumbValues.get(i);
+                int tupleStrength = Math.min(stats.combinationStrength,
+                        upstreamValue.stats.combinationStrength);
+                if (3 <= tupleStrength) {
+                    pickCrumbTuples.add(tupleOf(upstreamValue, tupleStrength));
+                }
+            }
+            for (int i = 0; i < upstreamTupleCount; ++i) {
+                TupleInformation upstreamTuple = pickCrumbTuples.get(i);
+                int tupleStrength = Math.min(stats.combinationStrength,
+                        upstreamTuple.stats.combinationStrength);
+                if (upstreamTuple.arity + 2 <= tupleStrength) {
+                    pickCrumbTuples.add(tupleOf(upstreamTuple, tupleStrength));
+                }
+            }
+        }
+
+        private TupleInformation tupleOf(ValueInformation base, int tupleStrength) {
+            long tupleKey = (long)base.valueInfoId << 32 | valueInfoId;
+            int tupleIndex = tupleIndexes.get(tupleKey);
+            if (0 <= tupleIndex) {
+                return allTupleInfos.get(tupleIndex);
+            }
+            TupleInformation newTuple = new TupleInformation(base, this, tupleStrength);
+            tupleIndexes.put(tupleKey, allTupleInfos.size());
+            allTupleInfos.add(newTuple);
+            return newTuple;
+        }
+
+        private void registerEndOfLine() {
+            crumbsNode = crumbs.parentOf(crumbsNode);
+            endOfLineKeys.put(stats.endOfLineKey(), 0);
+            /* Crumbs node depth is now same as size of pickCrumbValues: */
+            if (pickCrumbValues.size() <= 1) {
+                return;
+            }
+            if (parameterDefinition.isWideRange() && wideRangeOptions
+                    .get(parameterDefinition).hasUnmaterializedValues()) {
+                /* There are unused values at this end-of-line: */
+                return;
+            }
+            for (ValueInformation peerInfo : coreStatKeys.get(parameterDefinition)) {
+                if (this == peerInfo) {
+                    continue;
+                }
+
+                ValueStats peerStats = peerInfo.stats;
+                if (isForbiddenOnCrumbs(peerInfo)) {
+                    /* Not an option at this end-of-line: */
+                    continue;
+
+                } else if (peerStats.totalCount <= 0) {
+                    /* There is an unused value at this end-of-line: */ 
+                    return;
+
+                } else if (false == peerStats.combined && peerStats.enablerCount <= 0) {
+                    /* Already used uncombined value that is not enabler should
+                     * not prevent deeper end-of-line registation. */
+                    continue;
+
+                } else if (false == peerStats.isEndOfLine()) {
+                    /* There is still a valid value at this end-of-line! */
+                    return;
+                }
+            }
+            /* Also register end-of-line at end of key, as there are no more
+             * unused parameter-value combinations available:*/
+            registerEndOfLineAtLastCrumbValue();
+        }
+    }
+
+    /**
+     * Tuple of values from different parameters, which all have combination
+     * strength of 3 or more. For t-wise combining a tuple of (t - 1) values
+     * is an upstream combo on a downstream value, much like a single
+     * upstream value is an upstream combo with pairwise combining.
+     * A tuple is only created when its values are actually picked together,
+     * which keeps memory proportional to the tuples that are walked by
+     * repetitions, rather than all tuples that could possibly be composed.
+     */
+    private final class TupleInformation extends ValueInformation {
+        private final int arity;
+        private final ValueInformation[] values;
+
+        TupleInformation(ValueInformation base, ValueInformation lastValue,
+                int tupleStrength) {
+            super(-2 - allTupleInfos.size(), tupleStrength);
+            if (base instanceof TupleInformation) {
+                ValueInformation[] baseValues = ((TupleInformation)base).values;
+                values = Arrays.copyOf(baseValues, baseValues.length + 1);
+            } else {
+                values = new ValueInformation[] {base, null};
+            }
+            values[values.length - 1] = lastValue;
+            arity = values.length;
+        }
+
+        boolean hasValue(ValueInformation value) {
+            for (ValueInformation each : values) {
+                if (value == each) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        void increaseForwardRequestCount() {
+            super.increaseForwardRequestCount();
+            for (ValueInformation each : values) {
+                ++each.stats.tupleForwardRequestCount;
+            }
+        }
+
+        @Override
+        void decreaseForwardRequestCount() {
+            super.decreaseForwardRequestCount();
+            for (ValueInformation each : values) {
+                --each.stats.tupleForwardRequestCount;
+            }
+        }
+    }
+
+    /**
+     * Trie of the crumbs that have been walked by value-picks during
+     * repetitions. Each node is identified by an int, where {@link #ROOT} is
+     * the node of a repetition that has not yet picked any value.
+     * A child node is identified by its parent node and the index of the
+     * value picked, so that the crumbs of a repetition never need to be
+     * composed as a string.
+     */
+    private static final class CrumbsTrie {
+        static final int ROOT = 0;
+
+        private int[] parentNodes = new int[16];
+        private int[] valueIndexes = new int[16];
+        private Lazynition[] reservations = new Lazynition[16];
+        private int nodeCount = 1;
+        private final LongIntTable childNodes = new LongIntTable();
+
+        int childOf(int node, int valueIndex) {
+            long childKey = (long)node << 32 | valueIndex;
+            int child = childNodes.get(childKey);
+            if (child < 0) {
+                child = nodeCount++;
+                if (parentNodes.length <= child) {
+                    parentNodes = Arrays.copyOf(parentNodes, 2 * child);
+                    valueIndexes = Arrays.copyOf(valueIndexes, 2 * child);
+                    reservations = Arrays.copyOf(reservations, 2 * child);
+                }
+                parentNodes[child] = node;
+                valueIndexes[child] = valueIndex;
+                childNodes.put(childKey, child);
+            }
+            return child;
+        }
+
+        int parentOf(int node) {
+            return parentNodes[node];
+        }
+
+        Lazynition reservationAt(int node) {
+            return reservations[node];
+        }
+
+        /**
+         * @return previous reservation at node
+         */
+        Lazynition reserve(int node, Lazynition paramDefinition) {
+            try {
+                return reservations[node];
+            } finally {
+                reservations[node] = paramDefinition;
+            }
         }
-        @Override
-        public int size() {
-            assert 0 == initialValue
-                    : "Size is only supported when count starts at 0,"
-                    + " i.e. when there are no spooky defaults.";
-            return size;
+
+        /**
+         * Only used for composing messages.
+         * Each value index is represented by char that has the value index
+         * added to char '0' - except value indexes of wide-range parameters,
+         * which are represented by their decimal number within braces.
+         */
+        String pathOf(int node) {
+            StringBuilder path = new StringBuilder();
+            for (; ROOT != node; node = parentNodes[node]) {
+                int valueIndex = valueIndexes[node];
+                if (valueIndex < DENSE_RANGE_MAX) {
+                    path.append((char)(valueIndex + '0'));
+                } else {
+                    path.append('}').append(new StringBuilder()
+                            .append(valueIndex).reverse()).append('{');
+                }
+            }
+            return path.reverse().toString();
         }
     }
 
-    private final class ValueInformation {
-        private final Lazynition parameterDefinition;
-        private final int itemValueIndex;
-        private final ValueStats stats;
+    /**
+     * Open-addressing hash table from long keys to int values, without any
+     * boxing. Missing keys are reported with value -1, so only non-negative
+     * values can be stored.
+     */
+    private static final class LongIntTable {
+        private long[] keys = new long[16];
+        /** Values are stored plus one, so that zero can mark an empty slot. */
+        private int[] valuesPlusOne = new int[16];
+        private int size = 0;
 
-        private final int valueInfoId;
+        private int homeSlot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int)(hash ^ hash >>> 32) & keys.length - 1;
+        }
 
-        @SuppressWarnings("LeakingThisInConstructor")
-        ValueInformation(Lazynition item, int itemValueIndex) {
-            this.parameterDefinition = item;
-            this.itemValueIndex = itemValueIndex;
-            this.stats = new ValueStats(
-                    item.combinePairwise,
-                    /* Seed lookback with value-range on primary value if combined: */
-                    item.combinePairwise && 0 == itemValueIndex ? item.valueRange : 0);
-            this.valueInfoId = allValueInfos.size();
-            allValueInfos.add(this);
+        private int slotOf(long key) {
+            int mask = keys.length - 1;
+            for (int slot = homeSlot(key);; slot = slot + 1 & mask) {
+                if (0 == valuesPlusOne[slot] || key == keys[slot]) {
+                    return slot;
+                }
+            }
         }
 
-        private synchronized void registerPick() {
-            if (1 == ++stats.totalCount && false == stats.combined) {
-                for (ValueInformation upstreamEnablr : stats.pendingCombos.remove(null)) {
-                    --upstreamEnablr.stats.enablerCount;
-                }
-            }
-            for (ValueInformation combo2register : pickCrumbValues) {
-                if (1 == stats.satisfiedComboCounts.increase(combo2register)
-                        && false == combo2register.stats.combined) {
-                    /* When not combined a default count of 1 is enforced
-                     * when not yet increased. - Therefore an increase to 1 must
-                     * be increased again to manifest an actual increase: */
-                    stats.satisfiedComboCounts.increase(combo2register);
-                }
-                Set<ValueInformation> enablers =
-                        stats.pendingCombos.remove(combo2register);
-                if (null != enablers) {
-                    --combo2register.stats.forwardRequestCount;
-                    stats.comboEnablerCounts.add(combo2register, Integer.MAX_VALUE);
-                    for (ValueInformation eachRetiredEnabler : enablers) {
-                        stats.comboEnablerCounts.decrease(eachRetiredEnabler);
-                        --eachRetiredEnabler.stats.enablerCount;
+        int get(long key) {
+            return valuesPlusOne[slotOf(key)] - 1;
+        }
+
+        void put(long key, int value) {
+            int slot = slotOf(key);
+            if (0 == valuesPlusOne[slot]) {
+                if (keys.length <= 2 * ++size) {
+                    long[] oldKeys = keys;
+                    int[] oldValuesPlusOne = valuesPlusOne;
+                    keys = new long[2 * oldKeys.length];
+                    valuesPlusOne = new int[keys.length];
+                    for (int i = 0; i < oldKeys.length; ++i) {
+                        if (0 != oldValuesPlusOne[i]) {
+                            int newSlot = slotOf(oldKeys[i]);
+                            keys[newSlot] = oldKeys[i];
+                            valuesPlusOne[newSlot] = oldValuesPlusOne[i];
+                        }
                     }
+                    slot = slotOf(key);
                 }
+                keys[slot] = key;
             }
-            crumbsLog += (char)(this.itemValueIndex + '0');
-            pickCrumbValues.add(this);
+            valuesPlusOne[slot] = value + 1;
         }
+    }
 
-        private void registerEndOfLine() {
-            crumbsLog = crumbsLog.substring(0, crumbsLog.length() - 1);
-            stats.endOfLineKeys.add(crumbsLog);
-            if (crumbsLog.length() <= 1) {
-                return;
-            }
-            if (pickCrumbValues.size() <= 1) {
-                return;
-            }
-            for (ValueInformation peerInfo : coreStatKeys.get(parameterDefinition)) {
-                if (this == peerInfo) {
-                    continue;
-                }
+    /**
+     * Level scores of a value option on the pick that is in progress.
+     * Levels above size are read as zero.
+     */
+    private static final class LevelScores {
+        private long[] scores = new long[8];
+        private int size = 0;
 
-                ValueStats peerStats = peerInfo.stats;
-                if (peerStats.totalCount <= 0) {
-                    /* There is an unused value at this end-of-line: */ 
-                    return;
+        void clear() {
+            size = 0;
+        }
 
-                } else if (false == peerStats.combined && peerStats.enablerCount <= 0) {
-                    /* Already used uncombined value that is not enabler should
-                     * not prevent deeper end-of-line registation. */
-                    continue;
+        boolean isEmpty() {
+            return 0 == size;
+        }
 
-                } else if (false == peerStats.endOfLineKeys.contains(crumbsLog)) {
-                    /* There is still a valid value at this end-of-line! */
-                    return;
+        int size() {
+            return size;
+        }
+
+        long get(int level) {
+            return level < size ? scores[level] : 0L;
+        }
+
+        void set(int level, long score) {
+            assert level < size : "Level must be within size";
+            scores[level] = score;
+        }
+
+        void add(int level, long delta) {
+            if (size <= level) {
+                if (scores.length <= level) {
+                    scores = Arrays.copyOf(scores, Math.max(level + 1, 2 * scores.length));
                 }
+                Arrays.fill(scores, size, level + 1, 0L);
+                size = level + 1;
             }
-            /* Also register end-of-line at end of key, as there are no more
-             * unused parameter-value combinations available:*/
-            registerEndOfLineAtLastCrumbValue();
+            scores[level] += delta;
         }
     }
 
@@ -622,21 +2350,65 @@ public class Lazer {
      * LAZY parameter defiNITION
      */
     private final static class Lazynition {
-        private final Object paramId;
-        private final boolean combinePairwise;
-        private final int valueRange;
+        private Object paramId;
+        private int combinationStrength;
+        private int valueRange;
+        private Integer fingerprint;
 
-        Lazynition(Object paramId, boolean combinePairwise, char valueRange) {
+        Lazynition(Object paramId, int combinationStrength, int valueRange) {
+            reset(paramId, combinationStrength, valueRange);
+        }
+
+        /**
+         * Only to be used on {@link Lazer#lookupKey}!
+         */
+        Lazynition reset(Object paramId, int combinationStrength, int valueRange) {
             this.paramId = paramId;
-            this.combinePairwise = combinePairwise;
+            this.combinationStrength = combinationStrength;
             this.valueRange = valueRange;
+            this.fingerprint = null;
+            return this;
+        }
+
+        /**
+         * @return fingerprint that identifies this parameter definition
+         *         on recorded picks, which might be replayed on another JVM
+         */
+        int fingerprint() {
+            if (null == fingerprint) {
+                fingerprint = 31 * (31 * jvmNeutralToString(paramId).hashCode()
+                        + combinationStrength) + valueRange;
+            }
+            return fingerprint;
+        }
+
+        /**
+         * @return toString of parameter id - or only its class name if
+         *         the toString is the default of {@link Object#toString()},
+         *         which has a hash code that is likely to differ between JVMs
+         */
+        private static String jvmNeutralToString(Object paramId) {
+            String toString = String.valueOf(paramId);
+            if (null != paramId) {
+                String className = paramId.getClass().getName();
+                if (toString.equals(className + "@"
+                        + Integer.toHexString(paramId.hashCode()))) {
+                    return className;
+                }
+            }
+            return toString;
+        }
+
+        boolean isWideRange() {
+            return DENSE_RANGE_MAX < valueRange;
         }
 
         @Override
         public int hashCode() {
             int hash = 7;
             hash = 11 * hash + (this.paramId != null ? this.paramId.hashCode() : 0);
-            hash = 11 * hash + (combinePairwise ? 0 : 37);
+            hash = 11 * hash + (2 == combinationStrength ? 0
+                    : 1 == combinationStrength ? 37 : 37 + combinationStrength);
             hash = 11 * hash + this.valueRange;
             return hash;
         }
@@ -654,7 +2426,7 @@ public class Lazer {
             }
             final Lazynition other = (Lazynition) obj;
             if (this.valueRange != other.valueRange
-                    || this.combinePairwise != other.combinePairwise) {
+                    || this.combinationStrength != other.combinationStrength) {
                 return false;
             }
             return this.paramId == other.paramId
@@ -662,6 +2434,429 @@ public class Lazer {
         }
     }
 
+    /**
+     * Value options of a wide-range parameter, i.e. a parameter with more
+     * than {@link #DENSE_RANGE_MAX} values. A {@link ValueInformation} is not
+     * materialized until its value is about to be picked, in order of value
+     * index. Until then the value is only accounted for by
+     * {@link Lazer#countUnmaterializedValues}.
+     * <br/>
+     * An unpicked value always beats a picked value when value options are
+     * compared, which is why it is enough to keep no more than one unpicked
+     * value materialized at a time. It will then be picked, just like the
+     * lowest unpicked value would have been picked if all values had been
+     * materialized up front. The difference is that the values that are not
+     * materialized do not register any pending combos on the upstream values
+     * before they are picked.
+     */
+    private final class WideRangeOptions {
+        private final Lazynition parameterDefinition;
+        /**
+         * Has trailing null-entries, as its capacity is doubled whenever
+         * more room is needed, until it can hold all values of the range.
+         */
+        private ValueInformation[] options = new ValueInformation[16];
+        private int materializedCount = 0;
+
+        WideRangeOptions(Lazynition parameterDefinition) {
+            this.parameterDefinition = parameterDefinition;
+            countUnmaterializedValues += parameterDefinition.valueRange;
+            wideRangeOptions.put(parameterDefinition, this);
+            materializeNext();
+        }
+
+        boolean hasUnmaterializedValues() {
+            return materializedCount < parameterDefinition.valueRange;
+        }
+
+        private void materializeNext() {
+            if (options.length <= materializedCount) {
+                options = Arrays.copyOf(options, (int) Math.min(
+                        parameterDefinition.valueRange, 2L * options.length));
+                coreStatKeys.put(parameterDefinition, options);
+            }
+            options[materializedCount] =
+                    new ValueInformation(parameterDefinition, materializedCount);
+            ++materializedCount;
+            --countUnmaterializedValues;
+        }
+
+        /**
+         * @return value options with at least one unpicked value,
+         *         unless all values have been picked
+         */
+        ValueInformation[] withUnpickedOption() {
+            if (hasUnmaterializedValues()
+                    && 0 < options[materializedCount - 1].stats.totalCount) {
+                materializeNext();
+            }
+            return options;
+        }
+
+        /**
+         * Evaluation of value options on an uncombined parameter has no
+         * side-effects on the other value options, so an unpicked value
+         * can be picked without evaluating the others.
+         *
+         * @return unpicked value, if parameter is not combined;
+         *         otherwise null
+         */
+        ValueInformation uncombinedUnpicked() {
+            ValueInformation last = options[materializedCount - 1];
+            return false == last.stats.combined && 0 == last.stats.totalCount
+                    ? last : null;
+        }
+    }
+
+    /**
+     * Repetition path of its own on a {@link Lazer}, which state is swapped
+     * into the Lazer during each operation on the lease.
+     *
+     * @see Lazer#lease()
+     */
+    public final class Lease {
+        private int leasedCrumbsNode = CrumbsTrie.ROOT;
+        private int leasedCountParkedPrimaryValues = 0;
+        private List<ValueInformation> leasedCrumbValues =
+                new ArrayList<ValueInformation>();
+        private List<TupleInformation> leasedCrumbTuples =
+                new ArrayList<TupleInformation>();
+        private long[] leasedRecording = null;
+        private int leasedRecordingCount = 0;
+
+        private Lease() {}
+
+        /**
+         * Exchanges state of current repetition between lease and Lazer.
+         * Invoking it twice will restore the original state on both.
+         */
+        private void swap() {
+            if (null != recordedRepetitions && null == leasedRecording) {
+                leasedRecording = new long[16];
+            }
+            int node = crumbsNode;
+            crumbsNode = leasedCrumbsNode;
+            leasedCrumbsNode = node;
+
+            int parked = countParkedPrimaryValues;
+            countParkedPrimaryValues = leasedCountParkedPrimaryValues;
+            leasedCountParkedPrimaryValues = parked;
+
+            List<ValueInformation> crumbValues = pickCrumbValues;
+            pickCrumbValues = leasedCrumbValues;
+            leasedCrumbValues = crumbValues;
+
+            List<TupleInformation> crumbTuples = pickCrumbTuples;
+            pickCrumbTuples = leasedCrumbTuples;
+            leasedCrumbTuples = crumbTuples;
+
+            long[] recording = recordingRepetition;
+            recordingRepetition = leasedRecording;
+            leasedRecording = recording;
+
+            int recordCount = recordingCount;
+            recordingCount = leasedRecordingCount;
+            leasedRecordingCount = recordCount;
+        }
+
+        public int pick(Object paramId, boolean combinePairwise, int numberOfValues) {
+            return pick(paramId, combinePairwise ? 2 : 1, numberOfValues);
+        }
+
+        /**
+         * @see Lazer#pick(Object,int,int)
+         */
+        public int pick(Object paramId, int combinationStrength, int numberOfValues) {
+            synchronized (Lazer.this) {
+                swap();
+                try {
+                    return Lazer.this.pick(
+                            paramId, combinationStrength, numberOfValues);
+                } finally {
+                    swap();
+                }
+            }
+        }
+
+        /**
+         * @see Lazer#pick(Object,int,double[])
+         */
+        public int pick(Object paramId, int combinationStrength, double[] valueCosts) {
+            synchronized (Lazer.this) {
+                swap();
+                try {
+                    return Lazer.this.pick(
+                            paramId, combinationStrength, valueCosts);
+                } finally {
+                    swap();
+                }
+            }
+        }
+
+        /**
+         * Completes the ongoing repetition of this lease and prepares the
+         * lease for the value picks of another repetition.
+         *
+         * @return true if there are pending combinations, i.e. whether
+         *         there should be another repetition (on this or any other
+         *         lease); otherwise false
+         * @see Lazer#pendingCombinations()
+         * @see Lazer#startNew()
+         */
+        public boolean startNew() throws ExpectedParameterRepetition {
+            synchronized (Lazer.this) {
+                swap();
+                try {
+                    boolean pending = pendingCombinations();
+                    Lazer.this.startNew();
+                    return pending;
+                } finally {
+                    swap();
+                }
+            }
+        }
+    }
+
+    /**
+     * What is left of a {@link Lazer} after it has been retired.
+     *
+     * @see Lazer#retire()
+     */
+    public static final class Summary {
+        private final int parameterCount;
+        private final int valueCount;
+        private final int repetitionCount;
+        private final boolean completed;
+
+        Summary(int parameterCount, int valueCount,
+                int repetitionCount, boolean completed) {
+            this.parameterCount = parameterCount;
+            this.valueCount = valueCount;
+            this.repetitionCount = repetitionCount;
+            this.completed = completed;
+        }
+
+        public int getParameterCount() {
+            return parameterCount;
+        }
+
+        /**
+         * @return total number of values on all parameters
+         */
+        public int getValueCount() {
+            return valueCount;
+        }
+
+        public int getRepetitionCount() {
+            return repetitionCount;
+        }
+
+        /**
+         * @return true if all value combinations were satisfied at time of
+         *         retirement; false if the Lazer was retired with combinations
+         *         pending, e.g. because its repetitions were prevented
+         */
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        @Override
+        public String toString() {
+            return repetitionCount + " repetitions on " + parameterCount
+                    + " parameters with " + valueCount + " values"
+                    + (completed ? "" : " (incomplete)");
+        }
+    }
+
+    /**
+     * Predicate on combinations of parameter values that must never be
+     * picked together, e.g. a combination that is invalid for the system
+     * under test. The constraint of a test is configured as scoped custom item
+     * with key {@link #SCOPED_ITEM_KEY} on the scope configuration of the
+     * test, which replaces any constraint of a parent scope - so use
+     * {@link Lazer#anyOf(Constraint[])} to have both applied.
+     * Parameters are identified by the parameter ids that are used by the
+     * Lazer, which are most easily controlled with explicit parameter ids.
+     *
+     * @see Lazer#setConstraint(Constraint)
+     */
+    public interface Constraint {
+        /**
+         * Key of scoped custom item with the constraint of a test, which
+         * must be set before the first repetition of the test has completed.
+         */
+        String SCOPED_ITEM_KEY = "lazyparams.constraint";
+
+        /**
+         * Is evaluated with the pair of parameter values in both orders and
+         * the pair is forbidden if either evaluation returns true. Verdicts
+         * are kept by the Lazer, so the evaluation is not repeated on later
+         * repetitions.
+         *
+         * @return true if the specified values must not be picked together
+         */
+        boolean forbids(Object paramId1, int valueIndex1,
+                Object paramId2, int valueIndex2);
+    }
+
+    /**
+     * Ranks value options that are tied after all other evaluations,
+     * so that the option with the highest rank is picked.
+     * Value options of the same parameter must never be ranked equal,
+     * unless it is acceptable that the lowest value index is picked.
+     *
+     * @see Lazer#setTieBreaker(TieBreaker)
+     */
+    public interface TieBreaker {
+        /**
+         * @param parameterFingerprint identifies the parameter, by hashing
+         *        string representation of its id together with
+         *        its value range and combination strength
+         * @param valueIndex index of value option
+         * @param repetitionCount number of repetitions that have completed
+         *        on the Lazer, which can be used to rotate preferences
+         * @return rank of value option, where higher rank is preferred
+         */
+        long rank(int parameterFingerprint, int valueIndex, int repetitionCount);
+    }
+
+    /**
+     * Snapshot of the progress of a {@link Lazer}. Combinations are
+     * pairs of values with pairwise combining and are otherwise tuples of
+     * values combined with a downstream value. Keep in mind that Lazer
+     * discovers combinations lazily, i.e. a combination is not required
+     * until its upstream values have been picked, so the number of required
+     * combinations will usually grow during the first repetitions.
+     *
+     * @see Lazer#coverage()
+     */
+    public static final class Coverage {
+        private final long requiredCombinations;
+        private final long coveredCombinations;
+        private final long outstandingForwardRequests;
+        private final long unpickedValues;
+        private final int repetitionCount;
+        private final long estimatedRemainingRepetitions;
+        private final long unreachableCombinations;
+
+        public Coverage(long requiredCombinations, long coveredCombinations,
+                long outstandingForwardRequests, long unpickedValues,
+                int repetitionCount, long estimatedRemainingRepetitions,
+                long unreachableCombinations) {
+            this.requiredCombinations = requiredCombinations;
+            this.coveredCombinations = coveredCombinations;
+            this.outstandingForwardRequests = outstandingForwardRequests;
+            this.unpickedValues = unpickedValues;
+            this.repetitionCount = repetitionCount;
+            this.estimatedRemainingRepetitions = estimatedRemainingRepetitions;
+            this.unreachableCombinations = unreachableCombinations;
+        }
+
+        /**
+         * @return number of combinations that are known to be required so
+         *         far, i.e. covered combinations plus pending combinations
+         */
+        public long getRequiredCombinations() {
+            return requiredCombinations;
+        }
+
+        public long getCoveredCombinations() {
+            return coveredCombinations;
+        }
+
+        /**
+         * @return number of known combinations that are still pending
+         */
+        public long getOutstandingForwardRequests() {
+            return outstandingForwardRequests;
+        }
+
+        /**
+         * @return number of parameter values that have never been picked
+         */
+        public long getUnpickedValues() {
+            return unpickedValues;
+        }
+
+        /**
+         * @return number of repetitions, including an ongoing repetition
+         *         that has made at least one value pick
+         */
+        public int getRepetitionCount() {
+            return repetitionCount;
+        }
+
+        /**
+         * @return rough estimate on how many more repetitions are needed,
+         *         which assumes that outstanding forward requests and unpicked
+         *         values will continue to be satisfied at the average pace
+         *         of repetitions so far; or zero if there are no pending
+         *         combinations
+         */
+        public long getEstimatedRemainingRepetitions() {
+            return estimatedRemainingRepetitions;
+        }
+
+        /**
+         * @return number of pending combinations and unpicked values that
+         *         are given up as unreachable under constraint, i.e. the sum
+         *         of {@link #getOutstandingForwardRequests()} and
+         *         {@link #getUnpickedValues()} once repetitions have been
+         *         given up; or otherwise zero
+         * @see Lazer#setConstraint(Constraint)
+         */
+        public long getUnreachableCombinations() {
+            return unreachableCombinations;
+        }
+
+        @Override
+        public String toString() {
+            return coveredCombinations + " of " + requiredCombinations
+                    + " combinations covered"
+                    + (0 < unreachableCombinations
+                    ? " (" + unreachableCombinations + " unreachable)" : "")
+                    + " and " + unpickedValues
+                    + " values unpicked after " + repetitionCount
+                    + " repetitions (~" + estimatedRemainingRepetitions
+                    + " repetitions remaining)";
+        }
+    }
+
+    /**
+     * Where a parameter was initially introduced. Unless full stack-traces
+     * are configured, only the crumbs node and the caller frame are kept,
+     * and the {@link ExpectedParameterRepetition} is not created until an
+     * inconsistency is actually reported.
+     *
+     * @see Lazer#setFullIntroductionStackTraces(boolean)
+     */
+    private final class Introduction {
+        private final int crumbsNodeOnIntroduction;
+        private final StackTraceElement callerFrame;
+        private ExpectedParameterRepetition reported;
+
+        Introduction(int crumbsNodeOnIntroduction) {
+            this.crumbsNodeOnIntroduction = crumbsNodeOnIntroduction;
+            if (fullIntroductionStackTraces) {
+                callerFrame = null;
+                reported = new ExpectedParameterRepetition(message());
+            } else {
+                callerFrame = CallerFrame.locate();
+            }
+        }
+
+        private String message() {
+            return "... at '" + crumbs.pathOf(crumbsNodeOnIntroduction) + "' pick";
+        }
+
+        ExpectedParameterRepetition reported() {
+            if (null == reported) {
+                reported = new ExpectedParameterRepetition(message(), callerFrame);
+            }
+            return reported;
+        }
+    }
+
     /**
      * Stores stack-trace for a parameter's initial introduction
      * to its {@link Lazer} instance. This information is kept internally to
@@ -676,6 +2871,7 @@ public class Lazer {
         private static final List<String> frameworkStackClasses = Arrays.asList(
                 "java.",
                 Lazer.class.getName(),
+                CallerFrame.class.getName(),
                 LazyParams.class.getName(),
                 ScopedLazyParameter.class.getName(),
                 ToList.class.getName(),
@@ -684,12 +2880,46 @@ public class Lazer {
                 CartesianProductHub.class.getName(),
                 Ensembles.class.getName(),
                 InAnyOrder.class.getName(),
+                Primitives.class.getName(),
                 Qronicly.class.getName(),
+                Supplied.class.getName(),
                 ToPick.class.getName(),
                 "jdk.", "javax.", "com.sun.", "sun.");
 
+        /**
+         * Stack to search for the frame that introduced the parameter or null
+         * if the stack-trace of this instance was captured on introduction.
+         */
+        private final StackTraceElement[] introductionStack;
+
         ExpectedParameterRepetition(String message) {
             super(message);
+            introductionStack = null;
+        }
+
+        /**
+         * Used when only the caller frame was located on introduction. The
+         * stack-trace of this instance will instead be captured where the
+         * inconsistency is reported.
+         */
+        ExpectedParameterRepetition(String message, StackTraceElement callerFrame) {
+            super(message);
+            introductionStack = null == callerFrame
+                    ? new StackTraceElement[0]
+                    : new StackTraceElement[] {callerFrame};
+        }
+
+        static boolean isIntroductionFrame(
+                String className, String methodName, int lineNumber) {
+            if (lineNumber <= 0 || null == className) {
+                return false;
+            }
+            for (String fwkClassName : frameworkStackClasses) {
+                if (className.startsWith(fwkClassName)) {
+                    return false;
+                }
+            }
+            return null != methodName && false == methodName.startsWith("pickVal");
         }
 
         /** Try to navigate stack in order to locate a place where things
@@ -698,22 +2928,10 @@ public class Lazer {
         @Override public String getMessage() {
             StringBuilder buildMsg =
                     new StringBuilder("Inconsistent parameter value pick\n");
-            STACK_ELEMENTS:
-            for (StackTraceElement stkElm : getStackTrace()) {
-                if (0 < stkElm.getLineNumber()) {
-                    String className = stkElm.getClassName();
-                    if (null == className) {
-                        continue;
-                    }
-                    for (String fwkClassName : frameworkStackClasses) {
-                        if (className.startsWith(fwkClassName)) {
-                            continue STACK_ELEMENTS;
-                        }
-                    }
-                    if (null == stkElm.getMethodName()
-                            || stkElm.getMethodName().startsWith("pickVal")) {
-                        continue;
-                    }
+            for (StackTraceElement stkElm : null != introductionStack
+                    ? introductionStack : getStackTrace()) {
+                if (isIntroductionFrame(stkElm.getClassName(),
+                        stkElm.getMethodName(), stkElm.getLineNumber())) {
                     return buildMsg.append("... probably because a parameter that was introduced at ...\n")
                             .append(stkElm)
                             .append("\n... was not recognized when test was repeated!")
@@ -9,10 +9,13 @@
  */
 package org.lazyparams.internal;
 
+import java.io.File;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
 import org.lazyparams.config.Configuration;
 import org.lazyparams.config.ReadableConfiguration;
 
@@ -149,4 +152,132 @@ class ConfigurationOnOtherClassloader extends Configuration {
         invokeOnProviderClassLoader("setMaxFailureCount",
                 new Class[] {int.class}, maxFailureCountOrZeroToForceParentScope);
     }
+
+    @Override
+    public void setCombinationStrength(int combinationStrengthOrZeroToForceParentScope) {
+        invokeOnProviderClassLoader("setCombinationStrength",
+                new Class[] {int.class}, combinationStrengthOrZeroToForceParentScope);
+    }
+
+    @Override
+    public int getCombinationStrength() {
+        return this.<Integer>invokeOnProviderClassLoader(
+                "getCombinationStrength", new Class[0]);
+    }
+
+    @Override
+    public void setPlanCombinationsUpfront(Boolean planCombinationsUpfront) {
+        invokeOnProviderClassLoader("setPlanCombinationsUpfront",
+                new Class[] {Boolean.class}, planCombinationsUpfront);
+    }
+
+    @Override
+    public boolean planCombinationsUpfront() {
+        return this.<Boolean>invokeOnProviderClassLoader(
+                "planCombinationsUpfront", new Class[0]);
+    }
+
+    @Override
+    public void setPlanCacheDirectory(File planCacheDirectory) {
+        invokeOnProviderClassLoader("setPlanCacheDirectory",
+                new Class[] {File.class}, planCacheDirectory);
+    }
+
+    @Override
+    public File getPlanCacheDirectory() {
+        return this.<File>invokeOnProviderClassLoader(
+                "getPlanCacheDirectory", new Class[0]);
+    }
+
+    @Override
+    public void setFullIntroductionStackTraces(Boolean fullIntroductionStackTraces) {
+        invokeOnProviderClassLoader("setFullIntroductionStackTraces",
+                new Class[] {Boolean.class}, fullIntroductionStackTraces);
+    }
+
+    @Override
+    public boolean fullIntroductionStackTraces() {
+        return this.<Boolean>invokeOnProviderClassLoader(
+                "fullIntroductionStackTraces", new Class[0]);
+    }
+
+    @Override
+    public void setTieBreakSeed(Long tieBreakSeed) {
+        invokeOnProviderClassLoader("setTieBreakSeed",
+                new Class[] {Long.class}, tieBreakSeed);
+    }
+
+    @Override
+    public Long getTieBreakSeed() {
+        return this.<Long>invokeOnProviderClassLoader(
+                "getTieBreakSeed", new Class[0]);
+    }
+
+    @Override
+    public void setPreferUncoveredCombinationsOnLowBudget(
+            Boolean preferUncoveredCombinationsOnLowBudget) {
+        invokeOnProviderClassLoader("setPreferUncoveredCombinationsOnLowBudget",
+                new Class[] {Boolean.class}, preferUncoveredCombinationsOnLowBudget);
+    }
+
+    @Override
+    public boolean preferUncoveredCombinationsOnLowBudget() {
+        return this.<Boolean>invokeOnProviderClassLoader(
+                "preferUncoveredCombinationsOnLowBudget", new Class[0]);
+    }
+
+    @Override
+    public void setMaxDuration(long maxDurationMillisOrZeroToForceParentScope) {
+        invokeOnProviderClassLoader("setMaxDuration",
+                new Class[] {long.class}, maxDurationMillisOrZeroToForceParentScope);
+    }
+
+    @Override
+    public long getMaxDuration() {
+        return this.<Long>invokeOnProviderClassLoader(
+                "getMaxDuration", new Class[0]);
+    }
+
+    @Override
+    public void setMustIncludeCombinations(
+            List<Map<?,Integer>> mustIncludeCombinations) {
+        invokeOnProviderClassLoader("setMustIncludeCombinations",
+                new Class[] {List.class}, mustIncludeCombinations);
+    }
+
+    @Override
+    public List<Map<?,Integer>> getMustIncludeCombinations() {
+        return this.<List<Map<?,Integer>>>invokeOnProviderClassLoader(
+                "getMustIncludeCombinations", new Class[0]);
+    }
+
+    @Override
+    public void setPrecomputeNextRepetition(Boolean precomputeNextRepetition) {
+        invokeOnProviderClassLoader("setPrecomputeNextRepetition",
+                new Class[] {Boolean.class}, precomputeNextRepetition);
+    }
+
+    @Override
+    public boolean precomputeNextRepetition() {
+        return this.<Boolean>invokeOnProviderClassLoader(
+                "precomputeNextRepetition", new Class[0]);
+    }
+
+    @Override
+    public void setShard(int shardIndex, int shardCountOrZeroToForceParentScope) {
+        invokeOnProviderClassLoader("setShard", new Class[] {int.class, int.class},
+                shardIndex, shardCountOrZeroToForceParentScope);
+    }
+
+    @Override
+    public int getShardIndex() {
+        return this.<Integer>invokeOnProviderClassLoader(
+                "getShardIndex", new Class[0]);
+    }
+
+    @Override
+    public int getShardCount() {
+        return this.<Integer>invokeOnProviderClassLoader(
+                "getShardCount", new Class[0]);
+    }
 }
@@ -30,6 +30,8 @@ public class ContextLifecycleProviderFacade<ID> {
         if (newScope) {
 //            System.out.println("Opens " + executionScopedIdentifier);
             scopeDisplayAppendixes.remove(executionScopedIdentifier);
+            PlanCache.identifyScope(executionScopedIdentifier);
+            MaxRepeatCount.stampScopeOpening();
             LazerContext.preparePendingRepeat(initialScopeConfig);
             DisplayAppendixContext.coverParentScope(initialScopeConfig);
         }
@@ -54,6 +56,7 @@ public class ContextLifecycleProviderFacade<ID> {
      *         but repeated total- or failure-counts have reached max.
      * @see org.lazyparams.config.Configuration#setMaxFailureCount(int)
      * @see org.lazyparams.config.Configuration#setMaxTotalCount(int)
+     * @see org.lazyparams.config.Configuration#setMaxDuration(long)
      */
     public boolean closeExecutionScope(ID executionScopedIdentifier, Throwable result)
     throws MaxRepeatCount {
@@ -73,7 +76,8 @@ public class ContextLifecycleProviderFacade<ID> {
         scopeDisplayAppendixes.put(executionScopedIdentifier,
                 null == closingDisplayAppendix ? "" : closingDisplayAppendix.toString());
         try {
-            return MaxRepeatCount.verifyCountsOnPendingLazer(null == result);
+            return MaxRepeatCount.verifyCountsOnPendingLazer(
+                    null == result, executionScopedIdentifier);
         } finally {
 //            System.out.println("Closes appendixed " + executionScopedIdentifier +
 //                    ": " + scopeDisplayAppendixes.get(executionScopedIdentifier));
@@ -100,6 +104,17 @@ public class ContextLifecycleProviderFacade<ID> {
 
         private int totalCount, failureCount;
         private String message;
+        /**
+         * Time when first repetition was started.
+         * @see #stampScopeOpening()
+         */
+        private final long startNanos;
+        /**
+         * Unlike the max counts a max duration does not cause any failure.
+         * Repetitions are instead quietly discontinued and the coverage that
+         * was reached is appended to the display of the last repetition.
+         */
+        private boolean reachedMaxDuration;
 
         /**
          * Using {@link Configuration#setMaxTotalCount(int)} to set max total
@@ -109,7 +124,22 @@ public class ContextLifecycleProviderFacade<ID> {
          */
         private boolean reachedMaxTotalCountAtOne;
 
-        private MaxRepeatCount() {}
+        private MaxRepeatCount(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Used by {@link ContextLifecycleProviderFacade#openExecutionScope(Object)}
+         * so that the duration of a test includes its first repetition, which
+         * is completed before there is any counter for the test.
+         * Nothing is stamped unless a max duration is already configured.
+         */
+        static void stampScopeOpening() {
+            Configuration scopeConfig = ConfigurationContext.currentTestConfiguration();
+            if (0 < scopeConfig.getMaxDuration()) {
+                scopeConfig.setScopedCustomItem(MaxRepeatCount.class, System.nanoTime());
+            }
+        }
 
         @Override public String getMessage() {
             return message;
@@ -123,10 +153,17 @@ public class ContextLifecycleProviderFacade<ID> {
          * @throws MaxRepeatCount if any of the counts exceed its configured max!
          * @see org.lazyparams.config.Configuration#setMaxFailureCount(int)
          * @see org.lazyparams.config.Configuration#setMaxTotalCount(int)
+         * @see org.lazyparams.config.Configuration#setMaxDuration(long)
          */
-        static boolean verifyCountsOnPendingLazer(boolean success) throws MaxRepeatCount {
+        static boolean verifyCountsOnPendingLazer(
+                boolean success, Object executionScopedIdentifier)
+        throws MaxRepeatCount {
             Lazer.ExpectedParameterRepetition inconsistency = null;
+            if (false == success) {
+                LazerContext.confirmPrecomputedPicks();
+            }
             try {
+                LazerContext.skipRepetitionsOfOtherShards();
                 if (false == LazerContext.isPendingRepeat()) {
                     return true;
                 }
@@ -147,10 +184,13 @@ public class ContextLifecycleProviderFacade<ID> {
                 counter.setStackTrace(inconsistency.getStackTrace());
                 throw counter;
             } else if (null == counter) {
-                counter = new MaxRepeatCount();
+                Long startNanos = ConfigurationContext.currentTestConfiguration()
+                        .getScopedCustomItem(MaxRepeatCount.class);
+                counter = new MaxRepeatCount(
+                        null != startNanos ? startNanos : System.nanoTime());
                 repeatCounts.put(lazer, counter);
             }
-            counter.increaseAndCheckOnConfiguredMaxCounts(success);
+            counter.increaseAndCheckOnConfiguredMaxCounts(success, lazer);
             if (null == counter.message) {
                 return false;
             } else {
@@ -158,12 +198,18 @@ public class ContextLifecycleProviderFacade<ID> {
                 if (counter.reachedMaxTotalCountAtOne) {
                     /* Parameterization turned off - no repetition will be made: */
                     return true;
+                } else if (counter.reachedMaxDuration) {
+                    CharSequence appendix = scopeDisplayAppendixes
+                            .get(executionScopedIdentifier);
+                    scopeDisplayAppendixes.put(executionScopedIdentifier,
+                            (null == appendix ? "" : appendix) + " " + counter.message);
+                    return true;
                 }
                 throw counter;
             }
         }
 
-        private void increaseAndCheckOnConfiguredMaxCounts(boolean success) {
+        private void increaseAndCheckOnConfiguredMaxCounts(boolean success, Lazer lazer) {
             Configuration scopeConfig = ConfigurationContext.currentTestConfiguration();
             if (false == success
                     && scopeConfig.getMaxFailureCount() <= ++failureCount) {
@@ -175,6 +221,29 @@ public class ContextLifecycleProviderFacade<ID> {
                         + scopeConfig.getMaxTotalCount();
                 reachedMaxTotalCountAtOne = 1 == totalCount;
             }
+            long maxDuration = scopeConfig.getMaxDuration();
+            long duration = 0 < maxDuration
+                    ? (System.nanoTime() - startNanos) / 1000000L : 0;
+            if (null == message && 0 < maxDuration && maxDuration <= duration) {
+                Lazer.Coverage coverage = lazer.coverage();
+                message = "(max duration " + maxDuration + " ms reached with "
+                        + coverage.getCoveredCombinations() + " of "
+                        + coverage.getRequiredCombinations()
+                        + " combinations covered)";
+                reachedMaxDuration = true;
+
+            } else if (null == message
+                    && scopeConfig.preferUncoveredCombinationsOnLowBudget()) {
+                long remainingRepetitions =
+                        lazer.coverage().getEstimatedRemainingRepetitions();
+                if (scopeConfig.getMaxTotalCount() - totalCount < remainingRepetitions
+                        || 0 < maxDuration && (maxDuration - duration) * totalCount
+                        < remainingRepetitions * duration) {
+                    /* Budget will probably run out before all combinations
+                     * are covered - so cover as many as possible: */
+                    lazer.setPreferUncoveredCombinations(true);
+                }
+            }
         }
     }
 }
@@ -9,6 +9,13 @@
  */
 package org.lazyparams.internal;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import org.lazyparams.config.Configuration;
 import org.lazyparams.core.Lazer;
 
@@ -21,19 +28,108 @@ public class LazerContext {
     private static final ThreadLocal<Lazer> pendingRepeat = new ThreadLocal<Lazer>();
     private static final WeakIdentityHashMap<Lazer,Object> cannotBeRepeated =
             new WeakIdentityHashMap<Lazer, Object>();
+    /**
+     * Lazers that have the picks of their next repetition precomputed.
+     * @see Configuration#setPrecomputeNextRepetition(Boolean)
+     */
+    private static final WeakIdentityHashMap<Lazer,Object> precomputed =
+            new WeakIdentityHashMap<Lazer, Object>();
+    private static final WeakIdentityHashMap<Lazer,Shard> shards =
+            new WeakIdentityHashMap<Lazer, Shard>();
+    /**
+     * Constraints from another class-loader, which have been adapted
+     * to the Lazer that they are configured on.
+     */
+    private static final WeakIdentityHashMap<Lazer,Object> foreignConstraints =
+            new WeakIdentityHashMap<Lazer, Object>();
+    private static final WeakIdentityHashMap<Lazer,Future<?>> precomputations =
+            new WeakIdentityHashMap<Lazer, Future<?>>();
+    private static final ExecutorService precomputer =
+            Executors.newCachedThreadPool(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread precomputerThread = new Thread(task, "LazyParams precomputer");
+            precomputerThread.setDaemon(true);
+            return precomputerThread;
+        }
+    });
 
     private static Lazer createNewLazer() {
         Lazer newLazer = new Lazer();
+        Configuration config = ConfigurationContext.currentTestConfiguration();
+        Long tieBreakSeed = config.getTieBreakSeed();
+        if (null != tieBreakSeed) {
+            newLazer.setTieBreaker(Lazer.seededTieBreaker(tieBreakSeed));
+        }
+        if (config.precomputeNextRepetition()) {
+            precomputed.put(newLazer, "");
+        }
+        /* Shard index is resolved anyway, to fail fast if out of range: */
+        int shardIndex = config.getShardIndex();
+        int shardCount = config.getShardCount();
+        if (2 <= shardCount) {
+            shards.put(newLazer, new Shard(shardIndex, shardCount));
+        }
+        PlanCache.setupOn(newLazer);
         RetirementKey.LAZER.setCurrent(newLazer);
         return newLazer;
     }
 
+    private static void startPrecomputationOn(final Lazer lazer2repeat) {
+        precomputations.put(lazer2repeat, precomputer.submit(new Runnable() {
+            @Override
+            public void run() {
+                lazer2repeat.precomputeNextRepetition();
+            }
+        }));
+    }
+
+    /**
+     * Must be invoked before any other activity on a Lazer that might have
+     * the picks of its next repetition precomputed.
+     */
+    private static void awaitPrecomputationOn(Lazer lazer) {
+        Future<?> precomputation = precomputations.remove(lazer);
+        if (null == precomputation) {
+            return;
+        }
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    precomputation.get();
+                    return;
+                } catch (InterruptedException ex) {
+                    /* Lazer must not be touched until precomputation is done: */
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new Error(cause);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     private static void startNewCombinationOn(Lazer lazer2start) {
+        awaitPrecomputationOn(lazer2start);
+        Shard shard = shards.get(lazer2start);
+        if (null != shard) {
+            shard.pendingRepetition = null;
+        }
         lazer2start.startNew();
         RetirementKey.LAZER.setCurrent(lazer2start);
+        PlanCache.identifyRepetition(lazer2start);
     }
 
     static boolean preventRepeat(Lazer lazer2prevent) {
+        awaitPrecomputationOn(lazer2prevent);
         if (lazer2prevent == pendingRepeat.get()) {
             pendingRepeat.remove();
         }
@@ -66,7 +162,51 @@ public class LazerContext {
     static boolean isPendingRepeat() throws Lazer.ExpectedParameterRepetition {
         Lazer current = RetirementKey.LAZER.getCurrent();
         return null != current && false == cannotBeRepeated.containsKey(current)
-                && current.pendingCombinations();
+                && pendingCombinationsOn(current);
+    }
+
+    /**
+     * Used by {@link ContextLifecycleProviderFacade} when a repetition has
+     * finished and before {@link #isPendingRepeat()} is evaluated, because
+     * there is no repeat if all remaining repetitions are run by other shards.
+     * This is the only place where repetitions of other shards are skipped.
+     */
+    static void skipRepetitionsOfOtherShards()
+    throws Lazer.ExpectedParameterRepetition {
+        Lazer current = RetirementKey.LAZER.getCurrent();
+        if (null == current || cannotBeRepeated.containsKey(current)) {
+            return;
+        }
+        Shard shard = shards.get(current);
+        if (null != shard && null == shard.pendingRepetition) {
+            shard.skipRepetitionsOfOtherShards(current);
+        }
+    }
+
+    /**
+     * Once the repetitions of other shards have been skipped the Lazer can
+     * have precomputed picks that are not yet asked for, so that
+     * {@link Lazer#pendingCombinations()} must not be invoked until next
+     * repetition has started.
+     */
+    private static boolean pendingCombinationsOn(Lazer lazer)
+    throws Lazer.ExpectedParameterRepetition {
+        Shard shard = shards.get(lazer);
+        return null != shard && null != shard.pendingRepetition
+                ? shard.pendingRepetition
+                : lazer.pendingCombinations();
+    }
+
+    /**
+     * Used by {@link ContextLifecycleProviderFacade} when a test has failed,
+     * so that precomputed picks that the test did not get to are not
+     * reported as an inconsistency.
+     */
+    static void confirmPrecomputedPicks() {
+        Lazer current = RetirementKey.LAZER.getCurrent();
+        if (null != current) {
+            current.confirmPrecomputedPicks();
+        }
     }
 
     public static Lazer resolveLazer() {
@@ -74,9 +214,112 @@ public class LazerContext {
         if (null == lazer) {
             lazer = createNewLazer();
         }
+        Configuration config = ConfigurationContext.currentTestConfiguration();
+        /* Only has effect until first repetition has completed: */
+        lazer.setPlanCombinationsUpfront(config.planCombinationsUpfront());
+        lazer.setFullIntroductionStackTraces(config.fullIntroductionStackTraces());
+        configureConstraint(lazer,
+                config.getScopedCustomItem(Lazer.Constraint.SCOPED_ITEM_KEY));
+        lazer.setMustIncludeCombinations(config.getMustIncludeCombinations());
         return lazer;
     }
 
+    /**
+     * A constraint that is implemented on another class-loader is adapted
+     * only once per Lazer, as Lazer drops its constraint verdicts when
+     * another constraint instance is set.
+     */
+    private static void configureConstraint(Lazer lazer, final Object constraint) {
+        if (null == constraint || constraint instanceof Lazer.Constraint) {
+            lazer.setConstraint((Lazer.Constraint) constraint);
+            return;
+        } else if (constraint == foreignConstraints.get(lazer)) {
+            return;
+        }
+        final Method forbids;
+        try {
+            forbids = constraint.getClass().getMethod("forbids",
+                    Object.class, int.class, Object.class, int.class);
+            forbids.setAccessible(true);
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalArgumentException("Not a constraint: " + constraint, ex);
+        }
+        foreignConstraints.put(lazer, constraint);
+        lazer.setConstraint(new Lazer.Constraint() {
+            @Override
+            public boolean forbids(Object paramId1, int valueIndex1,
+                    Object paramId2, int valueIndex2) {
+                try {
+                    return (Boolean) forbids.invoke(constraint,
+                            paramId1, valueIndex1, paramId2, valueIndex2);
+                } catch (InvocationTargetException ex) {
+                    Throwable cause = ex.getTargetException();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw new Error(cause);
+                } catch (IllegalAccessException ex) {
+                    throw new Error(ex);
+                }
+            }
+            @Override
+            public String toString() {
+                return constraint.toString();
+            }
+        });
+    }
+
+    /**
+     * @return coverage snapshot of the {@link Lazer} on current scope
+     *         or null if there is none
+     */
+    public static Lazer.Coverage currentCoverage() {
+        Lazer current = RetirementKey.LAZER.getCurrent();
+        return null == current ? null : current.coverage();
+    }
+
+    /**
+     * Keeps track of the repetitions that are run by this JVM, when
+     * the repetitions of each test are shared by several JVMs.
+     * @see Configuration#setShard(int, int)
+     */
+    private static class Shard {
+        private final int index;
+        private final int count;
+        /**
+         * Index of latest repetition that could be computed without running
+         * the test, counted the same way on all shards.
+         */
+        private int repetitionIndex = 0;
+        /**
+         * Whether there is another repetition to run on this shard, once the
+         * repetitions of other shards have been skipped - or null if they
+         * have not been skipped since latest repetition started.
+         */
+        private Boolean pendingRepetition;
+
+        Shard(int index, int count) {
+            this.index = index;
+            this.count = count;
+        }
+
+        /**
+         * Precomputes next repetition and skips it if it is run by another
+         * shard, which is repeated until a repetition is to be run here or
+         * there are no more pending combinations.
+         */
+        void skipRepetitionsOfOtherShards(Lazer lazer)
+        throws Lazer.ExpectedParameterRepetition {
+            boolean pending = lazer.pendingCombinations();
+            while (pending && lazer.precomputeNextRepetition()
+                    && index != ++repetitionIndex % count) {
+                lazer.confirmPrecomputedPicks();
+                pending = lazer.pendingCombinations();
+            }
+            pendingRepetition = pending;
+        }
+    }
+
     private enum RetirementKey implements Configuration.ScopeRetirementPlan<Lazer> {
         LAZER;
 
@@ -95,9 +338,18 @@ public class LazerContext {
         @Override
         public void apply(Lazer lazerAtCloseOfScope) {
             try {
-                if (false == cannotBeRepeated.containsKey(lazerAtCloseOfScope)
-                        && lazerAtCloseOfScope.pendingCombinations()) {
+                if (cannotBeRepeated.containsKey(lazerAtCloseOfScope)) {
+                    /* Not completed but will not be repeated either: */
+                    lazerAtCloseOfScope.retire();
+                } else if (pendingCombinationsOn(lazerAtCloseOfScope)) {
                     pendingRepeat.set(lazerAtCloseOfScope);
+                    if (false == shards.containsKey(lazerAtCloseOfScope)
+                            && precomputed.containsKey(lazerAtCloseOfScope)) {
+                        startPrecomputationOn(lazerAtCloseOfScope);
+                    }
+                } else {
+                    PlanCache.storeCompleted(lazerAtCloseOfScope);
+                    lazerAtCloseOfScope.retire();
                 }
             } catch (Lazer.ExpectedParameterRepetition requiresRepeatPrevention) {
                 preventRepeat(lazerAtCloseOfScope);
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.lazyparams.config.Configuration;
+import org.lazyparams.core.Lazer;
+
+/**
+ * On-disk cache of the value picks that were made by a {@link Lazer} on
+ * a test, so that they can be replayed on a future JVM run of the same test,
+ * without any scoring on value options.
+ * There is one binary file per test identity. If the test has changed so
+ * that its parameters no longer match the recorded picks, the Lazer falls
+ * back to decide its picks on the fly and a new file is written once all
+ * combinations have been covered.
+ * <br/>
+ * A failure to read or write a cache file is silently ignored, because the
+ * cache is only an optimization.
+ * <br/>
+ * Test identity is resolved on opening of test-execution scope. A Lazer
+ * that is created on a test that started before LazyParams was installed
+ * will therefore not have any picks replayed, but its picks are still
+ * cached for future runs, with test identity resolved from its repetitions.
+ *
+ * @author Henrik Kaipe
+ * @see Configuration#setPlanCacheDirectory(File)
+ */
+class PlanCache {
+
+    private static final int FORMAT_MAGIC = 0x4C7A5002;
+    private static final WeakIdentityHashMap<Lazer,PlanCache> liveCaches =
+            new WeakIdentityHashMap<Lazer, PlanCache>();
+
+    private final File cacheDirectory;
+    private String testIdentity;
+    private List<long[]> cachedPicks;
+
+    private PlanCache(File cacheDirectory, String testIdentity) {
+        this.cacheDirectory = cacheDirectory;
+        this.testIdentity = testIdentity;
+        this.cachedPicks = null == testIdentity ? null : load();
+    }
+
+    private File cacheFile() {
+        return new File(cacheDirectory,
+                Integer.toHexString(testIdentity.hashCode()) + ".lzplan");
+    }
+
+    /**
+     * Used by {@link ContextLifecycleProviderFacade#openExecutionScope(Object)}
+     * to make test identity available for a {@link Lazer} that will be
+     * created on the scope.
+     */
+    static void identifyScope(Object executionScopedIdentifier) {
+        Configuration scopeConfig = ConfigurationContext.currentTestConfiguration();
+        if (null != scopeConfig.getPlanCacheDirectory()) {
+            scopeConfig.setScopedCustomItem(PlanCache.class,
+                    String.valueOf(executionScopedIdentifier));
+        }
+    }
+
+    static void setupOn(Lazer newLazer) {
+        Configuration scopeConfig = ConfigurationContext.currentTestConfiguration();
+        File cacheDirectory = scopeConfig.getPlanCacheDirectory();
+        String testIdentity = scopeConfig.getScopedCustomItem(PlanCache.class);
+        if (null != cacheDirectory) {
+            PlanCache cache = new PlanCache(cacheDirectory, testIdentity);
+            newLazer.recordPicks();
+            newLazer.replayPicks(cache.cachedPicks);
+            liveCaches.put(newLazer, cache);
+        }
+    }
+
+    /**
+     * Invoked when a new repetition is started on lazer, in order to resolve
+     * test identity if it was not known when lazer was created.
+     */
+    static void identifyRepetition(Lazer repeatedLazer) {
+        PlanCache cache = liveCaches.get(repeatedLazer);
+        if (null != cache && null == cache.testIdentity) {
+            cache.testIdentity = ConfigurationContext.currentTestConfiguration()
+                    .getScopedCustomItem(PlanCache.class);
+            if (null != cache.testIdentity) {
+                /* Too late to replay but can avoid needless rewrite: */
+                cache.cachedPicks = cache.load();
+            }
+        }
+    }
+
+    /**
+     * Invoked when there are no more pending combinations on lazer.
+     */
+    static void storeCompleted(Lazer completedLazer) {
+        PlanCache cache = liveCaches.remove(completedLazer);
+        if (null != cache && null != cache.testIdentity) {
+            cache.storeIfChanged(completedLazer.recordedPicks());
+        }
+    }
+
+    private List<long[]> load() {
+        File cacheFile = cacheFile();
+        if (false == cacheFile.isFile()) {
+            return null;
+        }
+        try {
+            DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new FileInputStream(cacheFile)));
+            try {
+                if (FORMAT_MAGIC != in.readInt()
+                        || false == testIdentity.equals(in.readUTF())) {
+                    return null;
+                }
+                List<long[]> picks = new ArrayList<long[]>();
+                for (int repetitionCount = in.readInt(); 0 <= --repetitionCount;) {
+                    long[] repetition = new long[in.readInt()];
+                    for (int i = 0; i < repetition.length; ++i) {
+                        repetition[i] = in.readLong();
+                    }
+                    picks.add(repetition);
+                }
+                return picks;
+            } finally {
+                in.close();
+            }
+        } catch (IOException ignore) {
+            return null;
+        }
+    }
+
+    private void storeIfChanged(List<long[]> recordedPicks) {
+        if (null == recordedPicks || isCached(recordedPicks)) {
+            return;
+        }
+        File cacheFile = cacheFile();
+        File tmpFile = new File(cacheFile.getPath() + ".tmp");
+        try {
+            cacheFile.getParentFile().mkdirs();
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tmpFile)));
+            try {
+                out.writeInt(FORMAT_MAGIC);
+                out.writeUTF(testIdentity);
+                out.writeInt(recordedPicks.size());
+                for (long[] repetition : recordedPicks) {
+                    out.writeInt(repetition.length);
+                    for (long pick : repetition) {
+                        out.writeLong(pick);
+                    }
+                }
+            } finally {
+                out.close();
+            }
+            cacheFile.delete();
+            tmpFile.renameTo(cacheFile);
+        } catch (IOException ignore) {
+            tmpFile.delete();
+        }
+    }
+
+    private boolean isCached(List<long[]> recordedPicks) {
+        if (null == cachedPicks || cachedPicks.size() != recordedPicks.size()) {
+            return false;
+        }
+        for (int i = 0; i < cachedPicks.size(); ++i) {
+            if (false == Arrays.equals(cachedPicks.get(i), recordedPicks.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
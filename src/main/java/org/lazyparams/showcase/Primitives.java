@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.showcase;
+
+import org.lazyparams.LazyParams;
+import org.lazyparams.LazyParamsCoreUtil;
+
+/**
+ * Picks primitive parameter values without boxing them into an array of
+ * parameter values. A value-pick goes straight to
+ * {@link LazyParamsCoreUtil#makePick(Object, boolean, int)} with a
+ * parameter ID that is derived from parameter name and range bounds (or
+ * possible values) and the picked value is displayed as
+ * <code>name=value</code>, without producing any text until the test-name is
+ * actually displayed.
+ * E.g. this replaces ...<pre><code>
+ * LazyParams.pickValue("size", IntStream.range(0,40).boxed().toArray(Integer[]::new))
+ * </code></pre> ... with ... <pre><code>
+ * Primitives.pickInt("size", 0, 40)
+ * </code></pre>
+ * The parameters are combined in the default pairwise manner and they will
+ * not be confused with parameters of {@link LazyParams} that have same name
+ * and values.
+ *
+ * @author Henrik Kaipe
+ */
+public class Primitives {
+    private Primitives() {}
+
+    /**
+     * @throws IllegalArgumentException if range is empty or has more than
+     * {@link Integer#MAX_VALUE} values
+     */
+    public static int pickInt(String parameterName, int fromInclusive, int toExclusive) {
+        long numberOfValues = (long) toExclusive - fromInclusive;
+        if (numberOfValues <= 0 || Integer.MAX_VALUE < numberOfValues) {
+            throw new IllegalArgumentException("Range of parameter "
+                    + parameterName + " must have 1 to " + Integer.MAX_VALUE
+                    + " values: [" + fromInclusive + "," + toExclusive + ")");
+        }
+        Object paramId = new ToStringKey(parameterName, fromInclusive, toExclusive) {};
+        int value = fromInclusive + LazyParamsCoreUtil.makePick(
+                paramId, true, (int) numberOfValues);
+        display(paramId, parameterName, value);
+        return value;
+    }
+
+    public static int pickInt(String parameterName, int[] possibleValues) {
+        Object paramId = new ToStringKey(parameterName, possibleValues) {};
+        int value = possibleValues[LazyParamsCoreUtil.makePick(
+                paramId, true, possibleValues.length)];
+        display(paramId, parameterName, value);
+        return value;
+    }
+
+    /**
+     * @throws IllegalArgumentException if range is empty or has more than
+     * {@link Integer#MAX_VALUE} values
+     */
+    public static long pickLong(String parameterName, long fromInclusive, long toExclusive) {
+        long numberOfValues = toExclusive - fromInclusive;
+        if (toExclusive <= fromInclusive
+                || numberOfValues <= 0 || Integer.MAX_VALUE < numberOfValues) {
+            throw new IllegalArgumentException("Range of parameter "
+                    + parameterName + " must have 1 to " + Integer.MAX_VALUE
+                    + " values: [" + fromInclusive + "," + toExclusive + ")");
+        }
+        Object paramId = new ToStringKey(parameterName, fromInclusive, toExclusive) {};
+        long value = fromInclusive + LazyParamsCoreUtil.makePick(
+                paramId, true, (int) numberOfValues);
+        display(paramId, parameterName, value);
+        return value;
+    }
+
+    public static long pickLong(String parameterName, long[] possibleValues) {
+        Object paramId = new ToStringKey(parameterName, possibleValues) {};
+        long value = possibleValues[LazyParamsCoreUtil.makePick(
+                paramId, true, possibleValues.length)];
+        display(paramId, parameterName, value);
+        return value;
+    }
+
+    /**
+     * Unlike {@link FalseOrTrue#pickBoolean(CharSequence)} the value-pick is
+     * displayed as <code>name=false</code> or <code>name=true</code>.
+     */
+    public static boolean pickBoolean(String parameterName) {
+        Object paramId = new ToStringKey(parameterName) {};
+        boolean value = 1 == LazyParamsCoreUtil.makePick(paramId, true, 2);
+        display(paramId, parameterName, value ? 1 : 0, true);
+        return value;
+    }
+
+    private static void display(Object paramId, String parameterName, long value) {
+        display(paramId, parameterName, value, false);
+    }
+
+    private static void display(Object paramId,
+            String parameterName, long value, boolean isBoolean) {
+        CharSequence toDisplay = new ValueDisplay(
+                LazyParams.currentScopeConfiguration().getValueDisplaySeparator(),
+                parameterName, value, isBoolean);
+        LazyParamsCoreUtil.displayOnFailure(paramId, toDisplay);
+        LazyParamsCoreUtil.displayOnSuccess(paramId, toDisplay);
+    }
+
+    /**
+     * Postpones string concatenation until value-pick is displayed.
+     */
+    private static class ValueDisplay implements CharSequence {
+        private final String separator, parameterName;
+        private final long value;
+        private final boolean isBoolean;
+        private String toString;
+
+        ValueDisplay(String separator, String parameterName,
+                long value, boolean isBoolean) {
+            this.separator = separator;
+            this.parameterName = parameterName;
+            this.value = value;
+            this.isBoolean = isBoolean;
+        }
+
+        @Override
+        public String toString() {
+            if (null == toString) {
+                toString = separator + parameterName + '='
+                        + (isBoolean ? String.valueOf(0 != value) : String.valueOf(value));
+            }
+            return toString;
+        }
+
+        @Override public int length() {
+            return toString().length();
+        }
+        @Override public char charAt(int i) {
+            return toString().charAt(i);
+        }
+        @Override public CharSequence subSequence(int i, int j) {
+            return toString().subSequence(i, j);
+        }
+    }
+}
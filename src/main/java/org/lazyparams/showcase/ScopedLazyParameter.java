@@ -10,16 +10,9 @@
 package org.lazyparams.showcase;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Proxy;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,9 +38,8 @@ import org.lazyparams.config.Configuration;
  * that will always produce separate parameters for each (sub-)scope, even if
  * parameters are otherwise identical. This may seem strange given that
  * {@link LazyParams} relies on ScopedLazyParameter under the hood - but it is all
- * because it does not hold on to its ScopedLazyParameter instance, so instead
- * {@link #pickValue()} is invoked on a new instance whenever a parameter
- * value-pick is made with {@link LazyParams LazyParams.pickValue(...)}.
+ * because its value-picks are made with instances that are returned by
+ * {@link #unscoped()}, which do not hold on to the value-pick of a parent scope.
  * <br><br>
  * An instance of ScopedLazyParameter is created by using a fluent progressive
  * factory that is initiated by method {@link #from(Object[]) from(T[] values)}
@@ -72,7 +64,7 @@ public abstract class ScopedLazyParameter<T> {
         for (int i = 0; i < otherValues.length; ++i) {
             possibleParamValues[i+1] = otherValues[i];
         }
-        return new FactoryHandler<T>((T[])possibleParamValues).newProxy();
+        return new FactoryHandler<T>((T[])possibleParamValues).newFactory();
     }
 
     public static <T> FactoryRoot<T> from(T[] values) {
@@ -80,11 +72,22 @@ public abstract class ScopedLazyParameter<T> {
         return new FactoryHandler<T>(
                 possibleParamValues,
                 new ToStringKey(values.getClass().getName()) {})
-                .newProxy();
+                .newFactory();
     }
 
     public abstract T pickValue();
 
+    /**
+     * Returns a parameter with the same values and parameter ID but without
+     * the special feature of having its value-pick held through sub-scopes.
+     * I.e. {@link #pickValue()} on the returned parameter behaves like
+     * {@link LazyParams LazyParams.pickValue(...)}, which allows
+     * {@link LazyParams} to prepare a parameter once and then reuse it on
+     * repeated value-picks.
+     * @hidden
+     */
+    public abstract ScopedLazyParameter<T> unscoped();
+
     public interface CombiningCollector<T,C> {
 
         public interface Seeds { int next(int bound); }
@@ -100,14 +103,21 @@ public abstract class ScopedLazyParameter<T> {
         private int pairwiseCountDown;
         private int genericSliceDown;
         private CartesianProductHub livePocket;
+        /** Zero means combination strength of current scope configuration */
+        private final int combinationStrength;
+        /** Only applies to the primary seed, when it picks among all values */
+        private final double[] valueCosts;
 
         private CombiningCollectorSeedsImpl(Object baseParamId,
                 int initPairwiseCountDown, int initSliceDown,
-                CartesianProductHub initOptionalPocket) {
+                CartesianProductHub initOptionalPocket, int combinationStrength,
+                double[] valueCosts) {
             this.baseParamId = baseParamId;
             this.pairwiseCountDown = initPairwiseCountDown;
             this.genericSliceDown = initSliceDown;
             this.livePocket = initOptionalPocket;
+            this.combinationStrength = combinationStrength;
+            this.valueCosts = valueCosts;
         }
 
         static CombiningCollector.Seeds launchUncombined(
@@ -116,17 +126,21 @@ public abstract class ScopedLazyParameter<T> {
                     /* To allow some pairwise combining,
                      * for better distribution on lists: */
                     nbrOfValues - 1,
-                    null);
+                    null, 0, null);
         }
         static CombiningCollectorSeedsImpl launchCombined(
                 Object baseParamId, int nbrOfValues,
-                CartesianProductHub optionalCartesianPocket) {
+                CartesianProductHub optionalCartesianPocket,
+                int combinationStrengthOrZeroForScopeDefault,
+                double[] valueCostsOrNull) {
             return new CombiningCollectorSeedsImpl(baseParamId,
                     /* Cap on pairwise: */
                     12 + nbrOfValues,
                     /* Cap on fully combined, if pocket is specified: */
                     10 + 2 * nbrOfValues,
-                    optionalCartesianPocket);
+                    optionalCartesianPocket,
+                    combinationStrengthOrZeroForScopeDefault,
+                    valueCostsOrNull);
         }
 
         @Override
@@ -171,10 +185,16 @@ public abstract class ScopedLazyParameter<T> {
                     livePocket = null;
                 }
             }
-            return LazyParamsCoreUtil.makePick(
-                    seedId,
-                    0 <= pairwiseCountDown || 1 <= genericSliceDown,
-                    bound);
+            boolean combine = 0 <= pairwiseCountDown || 1 <= genericSliceDown;
+            if (combine && 1 == seedCount
+                    && null != valueCosts && bound == valueCosts.length) {
+                return LazyParamsCoreUtil.makeCostWeightedPick(
+                        seedId, combinationStrength, valueCosts);
+            } else if (combine && 0 < combinationStrength) {
+                return LazyParamsCoreUtil.makeCombinedPick(
+                        seedId, combinationStrength, bound);
+            }
+            return LazyParamsCoreUtil.makePick(seedId, combine, bound);
         }
     }
 
@@ -194,6 +214,25 @@ public abstract class ScopedLazyParameter<T> {
         returns_Factory_with_Combiner_selected notCombined();
         returns_Factory_with_Combiner_selected fullyCombinedGlobally();
         returns_Factory_with_Combiner_selected fullyCombinedOn(CartesianProductHub fullyCombinedPocket);
+        /**
+         * Overrides the combination strength of scope configuration for this
+         * parameter, e.g. 3 to have each value combined with all pairs of
+         * values from other parameters that are combined with strength 3 or
+         * more.
+         *
+         * @see org.lazyparams.config.Configuration#setCombinationStrength(int)
+         */
+        returns_Factory_with_Combiner_selected combinedWithStrength(int combinationStrength);
+        /**
+         * Have the parameter values combined with a relative cost on each
+         * value, e.g. to have a value that requires a heavyweight container
+         * picked on fewer repetitions than a value that is an in-memory stub.
+         * The combination strength of scope configuration still applies.
+         *
+         * @param valueCosts positive cost of each parameter value
+         * @see org.lazyparams.core.Lazer#pick(Object, int, double[])
+         */
+        returns_Factory_with_Combiner_selected combinedWithCosts(double... valueCosts);
     }
 
     /**
@@ -334,48 +373,13 @@ public abstract class ScopedLazyParameter<T> {
         returns_Factory_with_Silencer_selected quietly();
     }
 
-    private static Map<Class<?>,Map<Class<?>,Class<? extends BasicFactory>>>
-            resolveProgressionPathsFor(Class<? extends BasicFactory> progressiveFactoryType) {
-        Map<Class<?>,Class<? extends BasicFactory>> featureProgressions =
-                new HashMap<Class<?>,Class<? extends BasicFactory>>();
-        Map<Class<?>,Map<Class<?>,Class<? extends BasicFactory>>> factoryType2featureProgressions =
-                new HashMap<Class<?>,Map<Class<?>,Class<? extends BasicFactory>>>();
-
-        for (Type featureCandidate : progressiveFactoryType.getGenericInterfaces()) {
-            if (featureCandidate instanceof ParameterizedType) {
-                ParameterizedType feature = (ParameterizedType)featureCandidate;
-                Type[] featureTypeParams = feature.getActualTypeArguments();
-                if (2 == featureTypeParams.length
-                        && featureTypeParams[1] instanceof ParameterizedType) {
-                    Class<? extends BasicFactory> progression =
-                            ((Class)((ParameterizedType)featureTypeParams[1]).getRawType())
-                            .asSubclass(BasicFactory.class);
-                    if (false == factoryType2featureProgressions.containsKey(progression)) {
-                        factoryType2featureProgressions.putAll(
-                                resolveProgressionPathsFor(progression));
-                    }
-                    featureProgressions.put(
-                            (Class<?>)feature.getRawType(), progression);
-                }
-            }
-        }
-        factoryType2featureProgressions.put(progressiveFactoryType,
-                featureProgressions.isEmpty()
-                ? Collections.<Class<?>,Class<? extends BasicFactory>>
-                        singletonMap(progressiveFactoryType, BasicFactory.class)
-                : Collections.unmodifiableMap(featureProgressions));
-        return Collections.unmodifiableMap(factoryType2featureProgressions);
-    }
-
-    static class FactoryHandler<T> implements InvocationHandler, FactoryRoot<T> {
-
-        static final Map<Class<?>,Map<Class<?>,Class<? extends BasicFactory>>>
-                factoryProgressionPaths = resolveProgressionPathsFor(FactoryRoot.class);
+    static class FactoryHandler<T> {
 
         private final T[] paramValues;
-        private final Class<? extends BasicFactory> progressiveFactoryType;
 
         private boolean combined = true;
+        private int combinationStrength = 0;
+        private double[] valueCosts = null;
         private CartesianProductHub pocket = null;
         private DisplayVerbosity verbosity = DisplayVerbosity.VERBOSE;
         private Object explicitParamId = null;
@@ -385,46 +389,22 @@ public abstract class ScopedLazyParameter<T> {
             this.paramValues = paramValues;
             this.extraIdDetails = null == extraIdDetails
                    ? Collections.emptyList() : Arrays.asList(extraIdDetails);
-            progressiveFactoryType = FactoryRoot.class;
         }
 
-        private FactoryHandler(FactoryHandler<T> root, Class<?> appliedFeatureType) {
-            progressiveFactoryType = factoryProgressionPaths
-                    .get(root.progressiveFactoryType).get(appliedFeatureType);
+        private FactoryHandler(FactoryHandler<T> root, String appliedFeature) {
             paramValues = root.paramValues;
             combined = root.combined;
+            combinationStrength = root.combinationStrength;
+            valueCosts = root.valueCosts;
             pocket = root.pocket;
             verbosity = root.verbosity;
             explicitParamId = root.explicitParamId;
             extraIdDetails = new ArrayList<Object>(root.extraIdDetails);
+            extraIdDetails.add(appliedFeature);
         }
 
-        <FactoryProxy extends BasicFactory<T>> FactoryProxy newProxy() {
-            return (FactoryProxy) Proxy.newProxyInstance(getClass().getClassLoader(),
-                    new Class[] {progressiveFactoryType}, this);
-        }
-
-        private Object invoke(Method method, Object[] args) throws Exception {
-            Class<?> appliedFeatureType = method.getDeclaringClass();
-            if (BasicFactory.class == appliedFeatureType
-                    || false == BasicFactory.class.isAssignableFrom(appliedFeatureType)) {
-                return method.invoke(this, args);
-            } else {
-                FactoryHandler next = new FactoryHandler(this, appliedFeatureType);
-                next.extraIdDetails.add(method.getName());
-                method.invoke(next, args);
-                return next.newProxy();
-            }
-        }
-
-        @Override
-        public Object invoke(Object proxy, Method method, Object[] args)
-        throws Throwable {
-            try {
-                return invoke(method, args);
-            } catch (InvocationTargetException ex) {
-                throw ex.getTargetException();
-            }
+        FactoryRoot<T> newFactory() {
+            return new FactoryProgression(this);
         }
 
         /* **** Basic Factory stuff ... *****/
@@ -443,6 +423,9 @@ public abstract class ScopedLazyParameter<T> {
             if (null != pocket) {
                 buildIdLogPart.add(pocket);
             }
+            if (0 < combinationStrength) {
+                buildIdLogPart.add(combinationStrength);
+            }
             IdDetail idLogPart = new IdDetail(buildIdLogPart.toArray());
 
             if (BasicToDisplayFunction.class == toDisplayDetail.getClass()) {
@@ -454,8 +437,7 @@ public abstract class ScopedLazyParameter<T> {
             }
         }
 
-        @Override
-        public ScopedLazyParameter<T> asParameter(final ToDisplayFunction<? super T> toDisplay) {
+        ScopedLazyParameter<T> asParameter(final ToDisplayFunction<? super T> toDisplay) {
             return asParameter(toDisplay, new CombiningCollector<T,T>() {
                 @Override
                 public T applyOn(List<? extends T> parameValues,
@@ -465,84 +447,214 @@ public abstract class ScopedLazyParameter<T> {
             });
         }
 
-        @Override
-        public ScopedLazyParameter<T> asParameter(String parameterName) {
+        ScopedLazyParameter<T> asParameter(String parameterName) {
             return asParameter(new BasicToDisplayFunction<T>(parameterName));
         }
 
-        @Override
-        public <C> ScopedLazyParameter<C> asParameter(String parameterName,
+        <C> ScopedLazyParameter<C> asParameter(String parameterName,
                 CombiningCollector<? super T, C> combiningCollector) {
             return asParameter(
                     new BasicToDisplayFunction<C>(parameterName),
                     combiningCollector);
         }
 
-        @Override
-        public <C> ScopedLazyParameter<C> asParameter(
+        <C> ScopedLazyParameter<C> asParameter(
                 final ToDisplayFunction<? super C> toDisplay,
                 final CombiningCollector<? super T, C> combiningCollector) {
             final List<T> valuesOnList = new ArrayList<T>(paramValues.length);
             Collections.addAll(valuesOnList, paramValues);
             final Object paramId = parameterId(valuesOnList,
                     combiningCollector.getClass().getName(), toDisplay);
-            final Object scopeKey = new Object();
+            return newParameter(valuesOnList, paramId,
+                    toDisplay, combiningCollector, new Object());
+        }
 
+        /**
+         * @param scopeKeyOrNull key for the scoped custom item that holds
+         *        the value-pick or null to have the parameter introduced on
+         *        each scope separately
+         */
+        private <C> ScopedLazyParameter<C> newParameter(
+                final List<T> valuesOnList, final Object paramId,
+                final ToDisplayFunction<? super C> toDisplay,
+                final CombiningCollector<? super T, C> combiningCollector,
+                final Object scopeKeyOrNull) {
             return new ScopedLazyParameter<C>() {
                 @Override
                 public C pickValue() {
                     Configuration scopedConf = LazyParams.currentScopeConfiguration();
-                    C picked = scopedConf.getScopedCustomItem(scopeKey);
+                    C picked = null == scopeKeyOrNull
+                            ? null : scopedConf.<C>getScopedCustomItem(scopeKeyOrNull);
                     if (null != picked) {
                         return picked;
                     }
                     picked = combiningCollector.applyOn(valuesOnList, combined
-                            ? CombiningCollectorSeedsImpl.launchCombined(paramId, valuesOnList.size(), pocket)
+                            ? CombiningCollectorSeedsImpl.launchCombined(paramId,
+                                    valuesOnList.size(), pocket, combinationStrength, valueCosts)
                             : CombiningCollectorSeedsImpl.launchUncombined(paramId, valuesOnList.size()));
-                    scopedConf.setScopedCustomItem(scopeKey, picked);
+                    if (null != scopeKeyOrNull) {
+                        scopedConf.setScopedCustomItem(scopeKeyOrNull, picked);
+                    }
                     verbosity.display(paramId, toDisplay, picked);
                     return picked;
                 }
+
+                @Override
+                public ScopedLazyParameter<C> unscoped() {
+                    return null == scopeKeyOrNull ? this : newParameter(
+                            valuesOnList, paramId, toDisplay, combiningCollector, null);
+                }
             };
         }
 
         /* **** Feature tweakers ... *****/
-        @Override
-        public Identifier_and_Silencer_Factory<T> notCombined() {
+        void notCombined() {
             combined = false;
-            return null;
         }
-        @Override
-        public Identifier_and_Silencer_Factory<T> fullyCombinedGlobally() {
-            return fullyCombinedOn(CartesianProductHub.GLOBAL);
+        void fullyCombinedGlobally() {
+            fullyCombinedOn(CartesianProductHub.GLOBAL);
         }
-        @Override
-        public Identifier_and_Silencer_Factory<T> fullyCombinedOn(
-                CartesianProductHub fullyCombinedPocket) {
+        void fullyCombinedOn(CartesianProductHub fullyCombinedPocket) {
             pocket = fullyCombinedPocket;
             combined = true;//to be robust if something breaks elsewhere
-            return null;
         }
-        @Override
-        public Combiner_and_Identifier_Factory<T> qronicly() {
+        void combinedWithStrength(int combinationStrength) {
+            if (combinationStrength < 2) {
+                throw new IllegalArgumentException(
+                        "Combination strength must be at least 2 - but was "
+                        + combinationStrength);
+            }
+            this.combinationStrength = combinationStrength;
+            combined = true;
+        }
+        void combinedWithCosts(double... valueCosts) {
+            if (paramValues.length != valueCosts.length) {
+                throw new IllegalArgumentException("Number of value costs "
+                        + valueCosts.length + " does not match number of values "
+                        + paramValues.length);
+            }
+            for (double eachCost : valueCosts) {
+                if (false == 0 < eachCost || Double.isInfinite(eachCost)) {
+                    throw new IllegalArgumentException(
+                            "Value cost must be positive - but was " + eachCost);
+                }
+            }
+            this.valueCosts = valueCosts.clone();
+            combined = true;
+        }
+        void qronicly() {
             verbosity = DisplayVerbosity.QRONIC;
-            return null;
         }
-        @Override
-        public Combiner_and_Identifier_Factory<T> quietly() {
+        void quietly() {
             verbosity = DisplayVerbosity.QUIET;
-            return null;
         }
-        @Override
-        public Combiner_and_Silencer_Factory<T> withExplicitParameterId(Object paramId) {
+        void withExplicitParameterId(Object paramId) {
             explicitParamId = paramId;
             extraIdDetails.clear();
-            return null;
         }
-        @Override
-        public Combiner_and_Silencer_Factory<T> withExtraIdDetails(Object... extraIdDetails) {
+        void withExtraIdDetails(Object... extraIdDetails) {
             Collections.addAll(this.extraIdDetails, extraIdDetails);
-            return null;
+        }
+    }
+
+    /**
+     * The fluent factory, which implements all factory progression interfaces
+     * at once, so that each step of a fluent factory chain is a plain virtual
+     * call. The progression interfaces are implemented as raw types, because a
+     * class cannot implement the same generic feature interface with separate
+     * type arguments - but their erasures have the very same methods.
+     * A feature is applied on a copy of the {@link FactoryHandler}, which
+     * has the feature method name added to its extra ID-details.
+     * <br>
+     * Must implement each interface that is generated by script
+     * "explode_factory_progression_path_definitions.pl".
+     */
+    @SuppressWarnings({"rawtypes","unchecked"})
+    static final class FactoryProgression implements FactoryRoot,
+            Identifier_and_Silencer_Factory, Combiner_and_Silencer_Factory,
+            Combiner_and_Identifier_Factory {
+        private final FactoryHandler handler;
+
+        FactoryProgression(FactoryHandler handler) {
+            this.handler = handler;
+        }
+
+        private FactoryHandler next(String appliedFeature) {
+            return new FactoryHandler(handler, appliedFeature);
+        }
+
+        @Override
+        public ScopedLazyParameter asParameter(String parameterName) {
+            return handler.asParameter(parameterName);
+        }
+        @Override
+        public ScopedLazyParameter asParameter(ToDisplayFunction toDisplay) {
+            return handler.asParameter(toDisplay);
+        }
+        @Override
+        public ScopedLazyParameter asParameter(String parameterName,
+                CombiningCollector combiningCollector) {
+            return handler.asParameter(parameterName, combiningCollector);
+        }
+        @Override
+        public ScopedLazyParameter asParameter(ToDisplayFunction toDisplay,
+                CombiningCollector combiningCollector) {
+            return handler.asParameter(toDisplay, combiningCollector);
+        }
+
+        @Override
+        public FactoryProgression notCombined() {
+            FactoryHandler next = next("notCombined");
+            next.notCombined();
+            return new FactoryProgression(next);
+        }
+        @Override
+        public FactoryProgression fullyCombinedGlobally() {
+            FactoryHandler next = next("fullyCombinedGlobally");
+            next.fullyCombinedGlobally();
+            return new FactoryProgression(next);
+        }
+        @Override
+        public FactoryProgression fullyCombinedOn(CartesianProductHub fullyCombinedPocket) {
+            FactoryHandler next = next("fullyCombinedOn");
+            next.fullyCombinedOn(fullyCombinedPocket);
+            return new FactoryProgression(next);
+        }
+        @Override
+        public FactoryProgression combinedWithStrength(int combinationStrength) {
+            FactoryHandler next = next("combinedWithStrength");
+            next.combinedWithStrength(combinationStrength);
+            return new FactoryProgression(next);
+        }
+        @Override
+        public FactoryProgression combinedWithCosts(double... valueCosts) {
+            FactoryHandler next = next("combinedWithCosts");
+            next.combinedWithCosts(valueCosts);
+            return new FactoryProgression(next);
+        }
+        @Override
+        public FactoryProgression qronicly() {
+            FactoryHandler next = next("qronicly");
+            next.qronicly();
+            return new FactoryProgression(next);
+        }
+        @Override
+        public FactoryProgression quietly() {
+            FactoryHandler next = next("quietly");
+            next.quietly();
+            return new FactoryProgression(next);
+        }
+        @Override
+        public FactoryProgression withExplicitParameterId(Object paramId) {
+            FactoryHandler next = next("withExplicitParameterId");
+            next.withExplicitParameterId(paramId);
+            return new FactoryProgression(next);
+        }
+        @Override
+        public FactoryProgression withExtraIdDetails(Object... extraIdDetails) {
+            FactoryHandler next = next("withExtraIdDetails");
+            next.withExtraIdDetails(extraIdDetails);
+            return new FactoryProgression(next);
         }
     }
 
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.showcase;
+
+import java.util.function.Supplier;
+import org.lazyparams.LazyParams;
+import org.lazyparams.config.Configuration;
+
+/**
+ * Named candidate for a parameter value that is only created if it is
+ * picked. This is for parametrization over values that are expensive to
+ * create (e.g. configured clients, loaded datasets or large payloads) and
+ * with each repetition only using one of them:
+ * <pre><code>
+ * Client client = Supplied.pickValue("client",
+ *         Supplied.named("local", () -&gt; new LocalClient()),
+ *         Supplied.named("remote", () -&gt; connectRemoteClient(url)));
+ * </code></pre>
+ * The parameter is displayed as <code>client=local</code> or
+ * <code>client=remote</code> and only the supplier of the picked candidate
+ * is invoked.
+ * <br>
+ * With {@link #pickMemoized(String, Supplied, Supplied...) pickMemoized(...)}
+ * the supplied value is also reused on later repetitions that pick
+ * the same candidate.
+ *
+ * @author Henrik Kaipe
+ */
+public class Supplied<T> {
+
+    private final String name;
+    private final Supplier<? extends T> supplier;
+
+    private Supplied(String name, Supplier<? extends T> supplier) {
+        if (null == supplier) {
+            throw new NullPointerException("Supplier of " + name);
+        }
+        this.name = name;
+        this.supplier = supplier;
+    }
+
+    public static <T> Supplied<T> named(
+            String candidateName, Supplier<? extends T> supplier) {
+        return new Supplied<T>(candidateName, supplier);
+    }
+
+    /**
+     * Picks a candidate and returns the value of its supplier, which is
+     * invoked every time its candidate is picked.
+     */
+    @SuppressWarnings("unchecked"/*because candidates are only read from array*/)
+    public static <T> T pickValue(String parameterName,
+            Supplied<? extends T> primaryCandidate,
+            Supplied<? extends T>... otherCandidates) {
+        return pickCandidate(parameterName, primaryCandidate, otherCandidates)
+                .supplier.get();
+    }
+
+    /**
+     * Picks a candidate and returns the value of its supplier, which is
+     * invoked only the first time its candidate is picked within the scope
+     * that encloses the repetitions of the test. The value is then memoized
+     * until the enclosing scope retires, when the memoized value is evicted
+     * and closed if it is {@link AutoCloseable}.
+     * <br>
+     * The memoized value is identified by parameter name and candidate names,
+     * so candidate names should tell apart values that are not interchangeable.
+     */
+    @SuppressWarnings("unchecked"/*because candidates are only read from array*/)
+    public static <T> T pickMemoized(String parameterName,
+            Supplied<? extends T> primaryCandidate,
+            Supplied<? extends T>... otherCandidates) {
+        Supplied<? extends T> picked = pickCandidate(
+                parameterName, primaryCandidate, otherCandidates);
+
+        Object[] candidateNamesAndPick = new Object[2 + otherCandidates.length];
+        candidateNamesAndPick[0] = primaryCandidate.name;
+        int pickIndex = 0;
+        for (int i = 0; i < otherCandidates.length; ++i) {
+            candidateNamesAndPick[1 + i] = otherCandidates[i].name;
+            if (picked == otherCandidates[i]) {
+                pickIndex = 1 + i;
+            }
+        }
+        candidateNamesAndPick[1 + otherCandidates.length] = pickIndex;
+        Object memoKey = new ToStringKey(parameterName, candidateNamesAndPick) {};
+
+        Configuration config = LazyParams.currentScopeConfiguration();
+        Memo<T> memo = config.getScopedCustomItem(memoKey);
+        if (null == memo) {
+            memo = new Memo<T>(memoKey, picked.supplier.get());
+            config.setScopedCustomItem(memoKey, memo, Memo.HAND_OVER);
+        }
+        return memo.value;
+    }
+
+    @SuppressWarnings("unchecked"/*because candidates are only read from array*/)
+    private static <T> Supplied<? extends T> pickCandidate(String parameterName,
+            Supplied<? extends T> primaryCandidate,
+            Supplied<? extends T>... otherCandidates) {
+        return ScopedLazyParameter.from(primaryCandidate, otherCandidates)
+                .withExtraIdDetails(ExtraIdDetail.supplied)
+                .asParameter(parameterName).pickValue();
+    }
+
+    /**
+     * Candidate is displayed by its name.
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Memoized value, which is first stored on the scope of the repetition
+     * that picked it. When that scope retires, the memo is handed over to
+     * the enclosing scope, where it is found by the scoped-item lookup of
+     * later repetitions until the enclosing scope retires as well.
+     */
+    private static class Memo<T> {
+        static final Configuration.ScopeRetirementPlan<Memo<?>> HAND_OVER =
+                new Configuration.ScopeRetirementPlan<Memo<?>>() {
+            @Override
+            public void apply(Memo<?> memo) throws Exception {
+                /* Retiring scope is no longer current: */
+                Configuration enclosing = LazyParams.currentScopeConfiguration();
+                if (memo == enclosing.getScopedCustomItem(memo.key)) {
+                    return;
+                }
+                try {
+                    enclosing.setScopedCustomItem(memo.key, memo, EVICT);
+                } catch (UnsupportedOperationException noScopeToEnclose) {
+                    EVICT.apply(memo);
+                }
+            }
+        };
+        static final Configuration.ScopeRetirementPlan<Memo<?>> EVICT =
+                new Configuration.ScopeRetirementPlan<Memo<?>>() {
+            @Override
+            public void apply(Memo<?> memo) throws Exception {
+                if (memo.value instanceof AutoCloseable) {
+                    ((AutoCloseable) memo.value).close();
+                }
+            }
+        };
+
+        final Object key;
+        final T value;
+
+        Memo(Object key, T value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private enum ExtraIdDetail {
+        supplied;
+    }
+}
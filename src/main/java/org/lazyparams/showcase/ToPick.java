@@ -92,7 +92,7 @@ public class ToPick {
         @Override public R apply(List<T> values) {
             FactoryRoot<T> paramFactory = new ScopedLazyParameter.FactoryHandler<T>(
                     (T[])values.toArray(), ExtraIdDetail.factory_root)
-                    .newProxy();
+                    .newFactory();
             return finish(paramFactory);
         }
         abstract R finish(FactoryRoot<T> parameterFactory);
@@ -31,7 +31,7 @@ abstract class ToStringKey {
         int hash = 3;
         hash = 89 * hash + (toString != null ? toString.hashCode() : 0);
         hash = 89 * hash + getClass().getName().hashCode();
-        hash = 89 * hash + Arrays.hashCode(extras);
+        hash = 89 * hash + Arrays.deepHashCode(extras);
         this.hash = hash;
     }
 
@@ -57,7 +57,7 @@ abstract class ToStringKey {
                 : false == this.toString.equals(otherToString)) {
             return false;
         }
-        return Arrays.equals(this.extras, resolveExtrasOnOther(obj));
+        return Arrays.deepEquals(this.extras, resolveExtrasOnOther(obj));
     }
 
     private Object[] resolveExtrasOnOther(Object obj) {
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.core;
+
+import java.util.stream.Stream;
+
+/**
+ * JDK-9 version of {@link CallerFrame}, which walks the stack lazily
+ * and never materializes any stack frames below the caller frame.
+ *
+ * @author Henrik Kaipe
+ */
+final class CallerFrame {
+
+    private static final StackWalker walker = StackWalker.getInstance();
+
+    private CallerFrame() {}
+
+    static StackTraceElement locate() {
+        return walker.walk((Stream<StackWalker.StackFrame> frames) -> frames
+                .filter(frame -> Lazer.ExpectedParameterRepetition
+                        .isIntroductionFrame(frame.getClassName(),
+                                frame.getMethodName(), frame.getLineNumber()))
+                .findFirst()
+                .map(StackWalker.StackFrame::toStackTraceElement))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.jupiter.api.Test;
+import org.lazyparams.showcase.ScopedLazyParameter;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class CombinationStrength {
+
+    void pickAll(int paramCount) {
+        for (int i = 0; i < paramCount; ++i) {
+            LazyParams.pickValue("p" + i, 'a', 'b');
+        }
+    }
+
+    @Test void pairwise() {
+        pickAll(4);
+    }
+
+    @Test void strength2() {
+        LazyParams.currentScopeConfiguration().setCombinationStrength(2);
+        pickAll(4);
+    }
+
+    @Test void strength3() {
+        LazyParams.currentScopeConfiguration().setCombinationStrength(3);
+        pickAll(4);
+    }
+
+    @Test void strength4() {
+        LazyParams.currentScopeConfiguration().setCombinationStrength(4);
+        pickAll(5);
+    }
+
+    @Test void strength3globally() {
+        LazyParamsCoreUtil.globalConfiguration().setCombinationStrength(3);
+        try {
+            pickAll(4);
+        } finally {
+            LazyParamsCoreUtil.globalConfiguration().setCombinationStrength(0);
+        }
+    }
+
+    @Test void strength3onParameters() {
+        for (int i = 0; i < 4; ++i) {
+            ScopedLazyParameter.from('a', 'b')
+                    .combinedWithStrength(3)
+                    .asParameter("p" + i)
+                    .pickValue();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each repetition is expressed with one character per parameter value.
+ * Before the repetitions are expected, it is verified that they cover all
+ * value combinations of the combination strength - and that they are fewer
+ * than the Cartesian product.
+ *
+ * @author Henrik Kaipe
+ */
+public class CombinationStrengthTest {
+
+    static final String[] PAIRWISE = {
+        "aaaa", "bbab", "abba", "babb", "aaab", "bbba"
+    };
+    static final String[] STRENGTH_3 = {
+        "aaaa", "bbab", "abba", "abab", "babb",
+        "baba", "bbaa", "aabb", "baab", "bbbb"
+    };
+
+    @Rule
+    public final VerifyJupiterRule expect = new VerifyJupiterRule(CombinationStrength.class);
+
+    private void expectCombinations(int strength, String... repetitions) {
+        int paramCount = repetitions[0].length();
+        Set<String> tuples = new HashSet<>();
+        for (String eachRepetition : repetitions) {
+            collectTuples(eachRepetition, strength, 0, "", tuples);
+        }
+        long expectedTupleCount = 1 << strength;
+        for (int i = 0; i < strength; ++i) {
+            expectedTupleCount = expectedTupleCount * (paramCount - i) / (i + 1);
+        }
+        assertThat(tuples).as("Covered tuples").hasSize((int) expectedTupleCount);
+        assertThat(repetitions.length).as("Repetitions")
+                .isLessThan(1 << paramCount);
+
+        Stream.of(repetitions).map(picks -> {
+            StringBuilder display = new StringBuilder();
+            for (int i = 0; i < picks.length(); ++i) {
+                display.append(" p").append(i).append('=').append(picks.charAt(i));
+            }
+            return display.toString();
+        }).forEach(expect::pass);
+        expect.pass("");
+    }
+
+    private static void collectTuples(String picks, int remaining,
+            int fromParam, String tuplePrefix, Set<String> tuples) {
+        if (0 == remaining) {
+            tuples.add(tuplePrefix);
+            return;
+        }
+        for (int i = fromParam; i <= picks.length() - remaining; ++i) {
+            collectTuples(picks, remaining - 1, i + 1,
+                    tuplePrefix + i + ":" + picks.charAt(i) + ",", tuples);
+        }
+    }
+
+    @Test
+    public void pairwise() {
+        expectCombinations(2, PAIRWISE);
+    }
+
+    @Test
+    public void strength2() {
+        expectCombinations(2, PAIRWISE);
+    }
+
+    @Test
+    public void strength3() {
+        expectCombinations(3, STRENGTH_3);
+    }
+
+    @Test
+    public void strength4() {
+        expectCombinations(4,
+                "aaaaa", "bbabb", "abbab", "abaaa", "abaab", "ababa", "aabbb",
+                "babba", "babbb", "babaa", "aabaa", "bbaaa", "aaaab", "bbbab",
+                "abbba", "bbbba", "aaabb", "baaba", "babab", "bbaba", "bbaab",
+                "aabba", "bbbbb", "baaab", "abbaa", "abbbb");
+    }
+
+    @Test
+    public void strength3globally() {
+        expectCombinations(3, STRENGTH_3);
+    }
+
+    @Test
+    public void strength3onParameters() {
+        expectCombinations(3, STRENGTH_3);
+    }
+}
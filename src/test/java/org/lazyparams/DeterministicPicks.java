@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lazyparams.showcase.ScopedLazyParameter;
+
+/**
+ * Parameters have explicit parameter ids, which are created anew on each
+ * launch, so that their hash codes differ between launches - as they would
+ * between JVMs.
+ *
+ * @author Henrik Kaipe
+ */
+public class DeterministicPicks {
+
+    static int launchCount;
+    static final Object[] identityIds = new Object[6];
+    static final Object[] saltedIds = new Object[6];
+
+    @BeforeAll static void newParameterIds() {
+        ++launchCount;
+        for (int i = 0; i < 6; ++i) {
+            identityIds[i] = new IdentityId();
+            saltedIds[i] = new SaltedId(i, launchCount);
+        }
+    }
+
+    void pickAll(Object[] paramIds) {
+        for (int i = 0; i < paramIds.length; ++i) {
+            ScopedLazyParameter.from('a', 'b', 'c')
+                    .withExplicitParameterId(paramIds[i])
+                    .asParameter("p" + i)
+                    .pickValue();
+        }
+    }
+
+    @Test void identityIds() {
+        LazyParams.currentScopeConfiguration().setTieBreakSeed(42L);
+        pickAll(identityIds);
+    }
+
+    @Test void saltedHashCodes() {
+        pickAll(saltedIds);
+    }
+
+    /**
+     * Parameter id with identity hash code and default toString.
+     */
+    static class IdentityId {}
+
+    /**
+     * Parameter id that has its hash code salted, as if on another JVM.
+     */
+    static class SaltedId {
+        private final int ordinal;
+        private final int salt;
+
+        SaltedId(int ordinal, int salt) {
+            this.ordinal = ordinal;
+            this.salt = salt;
+        }
+
+        @Override
+        public int hashCode() {
+            return (ordinal + 1) * (31 + salt * 0x9E3779B9);
+        }
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof SaltedId && ordinal == ((SaltedId)obj).ordinal;
+        }
+        @Override
+        public String toString() {
+            return "param" + ordinal;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+/**
+ * Launches {@link DeterministicPicks} three times, with new parameter ids
+ * on each launch, and expects the same repetitions every time.
+ * Each repetition is expressed with one character per parameter value.
+ *
+ * @author Henrik Kaipe
+ */
+public class DeterministicPicksTest {
+
+    @Rule
+    public VerifyJupiterRule expect = new VerifyJupiterRule(DeterministicPicks.class) {
+        @Override
+        public Statement apply(Statement base, Description description) {
+            final Statement launch = super.apply(base, description);
+            return new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    for (int i = 0; i < 3; ++i) {
+                        launch.evaluate();
+                    }
+                }
+            };
+        }
+    };
+
+    private void expectRepetitions(String... repetitions) {
+        RepetitionPicks.expectRepetitions(expect, repetitions);
+    }
+
+    /**
+     * Seeded tie-breaks must not depend on identity hash codes, which are
+     * part of the default toString of the parameter ids.
+     */
+    @Test
+    public void identityIds() {
+        expectRepetitions(
+                "aaaaaa", "cccacc", "bbbabb", "bcabcb", "abccac", "cabcba",
+                "bacbab", "acbbbc", "cbacca", "ccccaa", "baaccc", "abbbcb",
+                "cabbab", "bcacba", "aaccbb", "cbabba");
+    }
+
+    @Test
+    public void saltedHashCodes() {
+        expectRepetitions(
+                "aaaaaa", "bbbabb", "cccacc", "abcbcb", "bcacbc", "cabcab",
+                "bacbba", "cbbbac", "acacca", "acbbca", "cbacba", "baccac",
+                "acabab", "aabacc", "bbaacb", "abccbc");
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lazyparams.core.Lazer;
+import org.lazyparams.showcase.ScopedLazyParameter;
+
+/**
+ * Parameters have explicit parameter ids, so that they can be referred to
+ * by the constraints.
+ *
+ * @author Henrik Kaipe
+ */
+public class ForbiddenPairs {
+
+    static int repetitionCount;
+
+    @BeforeAll static void resetRepetitionCount() {
+        repetitionCount = 0;
+    }
+
+    void constrain(Lazer.Constraint constraint) {
+        LazyParams.currentScopeConfiguration()
+                .setScopedCustomItem(Lazer.Constraint.SCOPED_ITEM_KEY, constraint);
+    }
+
+    void pickAll(int paramCount) {
+        for (int i = 0; i < paramCount; ++i) {
+            ScopedLazyParameter.from('a', 'b', 'c')
+                    .withExplicitParameterId("p" + i)
+                    .asParameter("p" + i)
+                    .pickValue();
+        }
+    }
+
+    @Test void forbiddenPairs() {
+        constrain(Lazer.anyOf(
+                Lazer.forbiddenPair("p1", 1, "p0", 0),
+                Lazer.forbiddenPair("p2", 0, "p3", 2)));
+        pickAll(4);
+    }
+
+    /**
+     * Constraint is ignored, because it is not set until the first
+     * repetition has completed.
+     */
+    @Test void forbiddenPairsAfterFirstRepetition() {
+        if (1 < ++repetitionCount) {
+            constrain(Lazer.anyOf(
+                    Lazer.forbiddenPair("p1", 1, "p0", 0),
+                    Lazer.forbiddenPair("p2", 0, "p3", 2)));
+        }
+        pickAll(4);
+    }
+
+    @Test void allOptionsForbidden() {
+        constrain(new Lazer.Constraint() {
+            @Override
+            public boolean forbids(Object paramId1, int valueIndex1,
+                    Object paramId2, int valueIndex2) {
+                return "p0".equals(paramId1) && 1 == valueIndex1
+                        && "p1".equals(paramId2);
+            }
+        });
+        pickAll(2);
+    }
+
+    @Test void unreachableValue() {
+        constrain(new Lazer.Constraint() {
+            @Override
+            public boolean forbids(Object paramId1, int valueIndex1,
+                    Object paramId2, int valueIndex2) {
+                return "p0".equals(paramId1) && "p1".equals(paramId2)
+                        && 2 == valueIndex2;
+            }
+        });
+        pickAll(3);
+    }
+}
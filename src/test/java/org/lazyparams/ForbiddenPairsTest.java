@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each repetition is expressed with one character per parameter value.
+ * Before the repetitions are expected, they are checked against the
+ * constraint of each test and for the number of pairs they cover.
+ *
+ * @author Henrik Kaipe
+ */
+public class ForbiddenPairsTest {
+
+    @Rule
+    public final VerifyJupiterRule expect = new VerifyJupiterRule(ForbiddenPairs.class);
+
+    private void expectRepetitions(int expectedPairCount,
+            String forbiddenRgx, String... repetitions) {
+        for (String picks : repetitions) {
+            assertThat(picks.matches(forbiddenRgx)).as(picks).isFalse();
+        }
+        RepetitionPicks.expectRepetitions(expect, expectedPairCount, repetitions);
+    }
+
+    @Test
+    public void forbiddenPairs() {
+        expectRepetitions(6 * 3 * 3 - 2, "ab..|..ac",
+                "aaaa", "bbba", "ccca", "bccb", "cbbc", "acbb", "baab",
+                "cbcb", "accc", "caaa", "babc", "bbab", "aacc", "acaa");
+    }
+
+    @Test
+    public void forbiddenPairsAfterFirstRepetition() {
+        expectRepetitions(6 * 3 * 3, "",
+                "aaaa", "bbba", "ccca", "abcb", "cabc",
+                "bcab", "acbc", "bacc", "cbac", "cabb");
+    }
+
+    /**
+     * Value "b" on p0 is forbidden with all values of p1, so p1 falls back
+     * on its first value.
+     */
+    @Test
+    public void allOptionsForbidden() {
+        expectRepetitions(3 * 3 - 2, "b[bc]",
+                "aa", "ba", "cb", "ac", "cc", "ab", "ca");
+    }
+
+    /**
+     * Value "c" on p1 is forbidden with all values of p0, so it cannot be
+     * picked - but repetitions still come to an end.
+     */
+    @Test
+    public void unreachableValue() {
+        expectRepetitions(3 * 3 * 3 - 3 - 3, ".c.",
+                "aaa", "bbb", "cac", "bba", "abc", "cab", "bac",
+                "cba", "aab", "abb", "baa", "cbc", "aac");
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class MaxDuration {
+
+    @Test void quick() {
+        LazyParams.currentScopeConfiguration().setMaxDuration(500);
+        LazyParams.pickValue("i", 1, 2, 3);
+        LazyParams.pickValue("j", 1, 2, 3);
+    }
+
+    @Test void slowAfterFirst() throws InterruptedException {
+        LazyParams.currentScopeConfiguration().setMaxDuration(500);
+        int i = LazyParams.pickValue("i", 1, 2, 3);
+        LazyParams.pickValue("j", 1, 2, 3);
+        if (1 < i) {
+            Thread.sleep(600);
+        }
+    }
+}
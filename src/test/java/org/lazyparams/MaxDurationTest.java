@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Max duration is set during the test, so the duration of each test does
+ * not include its first repetition.
+ *
+ * @author Henrik Kaipe
+ */
+public class MaxDurationTest {
+
+    @Rule
+    public final VerifyJupiterRule expect = new VerifyJupiterRule(MaxDuration.class);
+
+    @Test
+    public void quick() {
+        expect.pass(" i=1 j=1").pass(" i=2 j=2").pass(" i=3 j=3")
+                .pass(" i=1 j=2").pass(" i=2 j=1").pass(" i=3 j=1")
+                .pass(" i=1 j=3").pass(" i=2 j=3").pass(" i=3 j=2")
+                .pass("");
+    }
+
+    /**
+     * Repetitions are discontinued without failure, when max duration is
+     * reached, and the coverage that was reached is appended to the display
+     * of the last repetition.
+     */
+    @Test
+    public void slowAfterFirst() {
+        expect.pass(" i=1 j=1")
+                .pass(" i=2 j=2 \\(max duration 500 ms reached"
+                        + " with 2 of 6 combinations covered\\)")
+                .pass("");
+    }
+}
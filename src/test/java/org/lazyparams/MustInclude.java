@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.lazyparams.core.Lazer;
+import org.lazyparams.showcase.ScopedLazyParameter;
+
+/**
+ * Parameters have explicit parameter ids, so that they can be referred to
+ * by the must-include combinations.
+ *
+ * @author Henrik Kaipe
+ */
+public class MustInclude {
+
+    static Map<?,Integer> combination(Object... paramIdsAndValueIndexes) {
+        Map<Object,Integer> combination = new HashMap<>();
+        for (int i = 0; i < paramIdsAndValueIndexes.length; i += 2) {
+            combination.put(paramIdsAndValueIndexes[i],
+                    (Integer) paramIdsAndValueIndexes[i + 1]);
+        }
+        return combination;
+    }
+
+    void mustInclude(Map<?,Integer>... combinations) {
+        LazyParams.currentScopeConfiguration()
+                .setMustIncludeCombinations(Arrays.asList(combinations));
+    }
+
+    void pick(int paramIndex) {
+        ScopedLazyParameter.from('a', 'b', 'c')
+                .withExplicitParameterId("p" + paramIndex)
+                .asParameter("p" + paramIndex)
+                .pickValue();
+    }
+
+    void pickAll(int paramCount) {
+        for (int i = 0; i < paramCount; ++i) {
+            pick(i);
+        }
+    }
+
+    @Test void regular() {
+        pickAll(5);
+    }
+
+    @Test void includedFirst() {
+        mustInclude(combination("p0", 2, "p1", 1, "p2", 2, "p3", 0),
+                combination("p0", 1, "p3", 2));
+        pickAll(5);
+    }
+
+    @Test void fullCombinations() {
+        mustInclude(combination("p0", 1, "p1", 1, "p2", 1, "p3", 1, "p4", 1),
+                combination("p0", 2, "p1", 2, "p2", 2, "p3", 2, "p4", 2),
+                combination("p0", 1, "p1", 2, "p2", 0, "p3", 1, "p4", 0));
+        pickAll(5);
+    }
+
+    @Test void unpickableValue() {
+        LazyParams.currentScopeConfiguration().setScopedCustomItem(
+                Lazer.Constraint.SCOPED_ITEM_KEY,
+                Lazer.forbiddenPair("p0", 1, "p1", 2));
+        mustInclude(combination("p0", 1, "p1", 2, "p2", 7));
+        pickAll(3);
+    }
+
+    @Test void ignoredAfterFirstPick() {
+        pick(0);
+        mustInclude(combination("p1", 2));
+        pick(1);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each repetition is expressed with one character per parameter value.
+ * Before the repetitions are expected, they are checked for the number of
+ * pairs they cover.
+ *
+ * @author Henrik Kaipe
+ */
+public class MustIncludeTest {
+
+    static final String[] REGULAR = {
+        "aaaaa", "bbbab", "cccac", "abcbc", "cabcb", "bcaba", "cbaca", "acbcc",
+        "bacbb", "baacc", "acbbb", "cbcba", "aacca", "bbbaa", "ccaab"
+    };
+
+    @Rule
+    public final VerifyJupiterRule expect = new VerifyJupiterRule(MustInclude.class);
+
+    private void expectRepetitions(int expectedPairCount, String... repetitions) {
+        RepetitionPicks.expectRepetitions(expect, expectedPairCount, repetitions);
+    }
+
+    @Test
+    public void regular() {
+        expectRepetitions(10 * 3 * 3, REGULAR);
+    }
+
+    @Test
+    public void includedFirst() {
+        String[] repetitions = {
+            "cbcaa", "baaca", "acbab", "bbbbc", "aacbb", "ccacc", "abacb", "bccba",
+            "cabac", "aaaaa", "bbbcb", "cccbc", "abccc", "babaa", "caabb"
+        };
+        assertThat(repetitions[0]).startsWith("cbca");
+        assertThat(repetitions[1]).matches("b..c.");
+        expectRepetitions(10 * 3 * 3, repetitions);
+    }
+
+    /**
+     * Full combinations do not leave more repetitions than regular picks,
+     * except for one that might be needed for the combinations to fit.
+     */
+    @Test
+    public void fullCombinations() {
+        String[] repetitions = {
+            "bbbbb", "ccccc", "bcaba", "aacab", "abacc", "cabaa", "baccc", "acbcb",
+            "cbaab", "aacba", "bbbac", "cbcba", "acabc", "baaca", "ccbaa"
+        };
+        assertThat(repetitions.length).as("Repetitions")
+                .isLessThanOrEqualTo(REGULAR.length + 1);
+        expectRepetitions(10 * 3 * 3, repetitions);
+    }
+
+    /**
+     * Value "c" of p1 is forbidden together with the included value "b" of
+     * p0 and p2 has no eighth value, so they are picked as usual.
+     */
+    @Test
+    public void unpickableValue() {
+        String[] repetitions = {
+            "baa", "abb", "ccc", "aac", "cba", "bbc", "ccb", "aca", "bab", "caa"
+        };
+        expectRepetitions(3 * 3 * 3 - 1, repetitions);
+    }
+
+    @Test
+    public void ignoredAfterFirstPick() {
+        expectRepetitions(3 * 3, "aa", "bb", "cc", "ab", "ba", "ca", "ac", "bc", "cb");
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.jupiter.api.Test;
+import org.lazyparams.showcase.Primitives;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class PlanUpfront {
+
+    char pickAll() {
+        char first = LazyParams.pickValue("p0", 'a', 'b', 'c');
+        for (int i = 1; i < 7; ++i) {
+            LazyParams.pickValue("p" + i, 'a', 'b', 'c');
+        }
+        return first;
+    }
+
+    @Test void onTheFly() {
+        pickAll();
+    }
+
+    @Test void planned() {
+        LazyParams.currentScopeConfiguration().setPlanCombinationsUpfront(true);
+        pickAll();
+    }
+
+    @Test void plannedWithNewParameter() {
+        LazyParams.currentScopeConfiguration().setPlanCombinationsUpfront(true);
+        if ('b' == pickAll()) {
+            LazyParams.pickValue("extra", 'x', 'y');
+        }
+    }
+
+    /**
+     * Too many value pairs to plan, so values are combined on the fly.
+     */
+    @Test void plannedWithTooManyPairs() {
+        LazyParams.currentScopeConfiguration().setPlanCombinationsUpfront(true);
+        LazyParams.currentScopeConfiguration().setMaxTotalCount(3);
+        Primitives.pickInt("a", 0, 3000);
+        Primitives.pickInt("b", 0, 3000);
+    }
+}
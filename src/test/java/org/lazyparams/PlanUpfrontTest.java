@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each repetition is expressed with one character per value of parameters
+ * "p0" to "p6", followed by the value of parameter "extra" when it is picked.
+ *
+ * @author Henrik Kaipe
+ */
+public class PlanUpfrontTest {
+
+    static final String[] ON_THE_FLY = {
+        "aaaaaaa", "bbbabbb", "cccaccc", "abcbcba", "babcacc", "ccacbab",
+        "ababbcc", "bacbacb", "ccbccba", "bbcbcaa", "aabbbbc", "cbacaac",
+        "acccaca", "caabcbb", "bcbbaab", "accabab", "bcaabba", "cacaabc"
+    };
+    static final String[] PLANNED = {
+        "aaaaaaa", "bbbbbbb", "ccccccc", "abcabca", "babccaa", "cacbaab",
+        "acabcba", "bbacabc", "cababba", "acbaacb", "abacbac", "bccaccc",
+        "cabbccc", "cbacccb", "bccbbab", "aacaaba"
+    };
+
+    @Rule
+    public final VerifyJupiterRule expect = new VerifyJupiterRule(PlanUpfront.class);
+
+    private void expectRepetitions(String... repetitions) {
+        assertThat(RepetitionPicks.pairsOf(7, repetitions))
+                .as("Covered pairs").hasSize(7 * 6 / 2 * 3 * 3);
+        for (String picks : repetitions) {
+            expect.pass(RepetitionPicks.display(picks.substring(0, 7))
+                    + (7 < picks.length() ? " extra=" + picks.charAt(7) : ""));
+        }
+        expect.pass("");
+    }
+
+    @Test
+    public void onTheFly() {
+        expectRepetitions(ON_THE_FLY);
+    }
+
+    @Test
+    public void planned() {
+        assertThat(PLANNED.length).as("Planned repetitions")
+                .isLessThan(ON_THE_FLY.length);
+        expectRepetitions(PLANNED);
+    }
+
+    /**
+     * Parameter "extra" is introduced on second repetition, so the plan is
+     * abandoned and its values are combined on the fly.
+     */
+    @Test
+    public void plannedWithNewParameter() {
+        String[] repetitions = {
+            "aaaaaaa", "bbbbbbbx", "cccaccc", "acccaab", "caacccb", "aacccbb",
+            "ccacabb", "acaccbb", "caccabb", "aaacabb", "cccccbb", "acaccba",
+            "cacaabb", "aaccabb", "caacabb", "aaccabc", "ccabbab", "aacbbcb",
+            "cbbbbcb", "abbbbab", "cbbbbab", "cbbbbca", "bbbbbaby", "bbbbaacx",
+            "bbbaabcy", "bbbaccax", "bbacccay", "bcacbccx", "bcbacacy",
+            "bacbacay", "babbccax", "bbcabcax", "abbcbbc"
+        };
+        for (String eachRepetition : repetitions) {
+            assertThat(eachRepetition.length()).as(eachRepetition)
+                    .isEqualTo('b' == eachRepetition.charAt(0) ? 8 : 7);
+        }
+        expectRepetitions(repetitions);
+    }
+
+    /**
+     * Planning is skipped, as it would have to keep track of 9 million pairs.
+     */
+    @Test
+    public void plannedWithTooManyPairs() {
+        expect.pass(" a=0 b=0").pass(" a=1 b=1").pass(" a=2 b=2")
+                .fail("").withMessage("Total repetition count has reached its max at 3");
+    }
+}
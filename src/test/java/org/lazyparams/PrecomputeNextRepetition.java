@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class PrecomputeNextRepetition {
+
+    static int repetitionCount;
+
+    @BeforeAll static void resetRepetitionCount() {
+        repetitionCount = 0;
+    }
+
+    void precompute() {
+        LazyParams.currentScopeConfiguration().setPrecomputeNextRepetition(true);
+    }
+
+    /**
+     * Introduces parameter "extra" on some of the repetitions, so that only
+     * part of a repetition can be precomputed.
+     */
+    void pickAll() {
+        for (int i = 0; i < 5; ++i) {
+            if ('b' == LazyParams.pickValue("p" + i, 'a', 'b', 'c') && 2 == i) {
+                LazyParams.pickValue("extra", 'x', 'y');
+            }
+        }
+    }
+
+    @Test void regular() {
+        pickAll();
+    }
+
+    @Test void precomputed() {
+        precompute();
+        pickAll();
+    }
+
+    @Test void precomputedParameterIsSkipped() {
+        precompute();
+        int paramCount = 3 <= ++repetitionCount ? 2 : 3;
+        for (int i = 0; i < paramCount; ++i) {
+            LazyParams.pickValue("p" + i, 'a', 'b', 'c');
+        }
+    }
+
+    @Test void precomputedParametersAreReordered() {
+        precompute();
+        boolean reorder = 3 <= ++repetitionCount;
+        LazyParams.pickValue("p0", 'a', 'b', 'c');
+        LazyParams.pickValue(reorder ? "p2" : "p1", 'a', 'b', 'c');
+        LazyParams.pickValue(reorder ? "p1" : "p2", 'a', 'b', 'c');
+    }
+}
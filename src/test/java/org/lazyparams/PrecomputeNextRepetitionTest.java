@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Each repetition is expressed with one character per parameter value,
+ * where the value of parameter "extra" follows right after value "b" of p2.
+ *
+ * @author Henrik Kaipe
+ */
+public class PrecomputeNextRepetitionTest {
+
+    static final String[] REPETITIONS = {
+        "aaaaa", "bbbxab", "cccac", "bbbybc", "acccb", "caacc", "bacba",
+        "cbbyca", "acabb", "bcbxca", "cbabb", "aabxbc", "aabyab", "bbcac",
+        "bcacc", "ccbxaa", "acbyba", "abcca"
+    };
+
+    @Rule
+    public final VerifyJupiterRule expect = new VerifyJupiterRule(PrecomputeNextRepetition.class);
+
+    private void expectRepetitions() {
+        for (String picks : REPETITIONS) {
+            StringBuilder display = new StringBuilder();
+            for (int i = 0, p = 0; i < picks.length(); ++i, ++p) {
+                display.append(" p").append(p).append('=').append(picks.charAt(i));
+                if (2 == p && 'b' == picks.charAt(i)) {
+                    display.append(" extra=").append(picks.charAt(++i));
+                }
+            }
+            expect.pass(display.toString());
+        }
+        expect.pass("");
+    }
+
+    @Test
+    public void regular() {
+        expectRepetitions();
+    }
+
+    @Test
+    public void precomputed() {
+        expectRepetitions();
+    }
+
+    /**
+     * Parameter p2 is precomputed for the third repetition, so it is
+     * inconsistent to not pick it.
+     */
+    @Test
+    public void precomputedParameterIsSkipped() {
+        expect.pass(" p0=a p1=a p2=a")
+                .pass(" p0=b p1=b p2=b")
+                .pass(" p0=c p1=c")
+                .fail("").withMessage("Inconsistency detected at repetition count 3.*");
+    }
+
+    /**
+     * Parameters p1 and p2 are precomputed for the third repetition, so it
+     * is inconsistent to pick them in another order. It is expected to stop
+     * repetitions, like any other inconsistency does.
+     */
+    @Test
+    public void precomputedParametersAreReordered() {
+        expect.pass(" p0=a p1=a p2=a")
+                .pass(" p0=b p1=b p2=b")
+                .fail(" p0=c PARAMETER_INCONSISTENCY_DETECTED")
+                .withMessage("Inconsistent parameter value pick.*")
+                .fail("").withMessage("Inconsistency detected at repetition count 3"
+                        + "\\s++Inconsistent parameter value pick.*");
+    }
+}
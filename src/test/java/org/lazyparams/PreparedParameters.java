@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class PreparedParameters {
+
+    static final String[] VALUES = {"x", "y"};
+    final String prefix = "nbr=";
+
+    @Test void repeatedPick() {
+        Integer nbr = LazyParams.pickValue("nbr", 1, 2, 3);
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(nbr, LazyParams.pickValue("nbr", 1, 2, 3));
+        }
+    }
+
+    @Test void newArrayWithSameValues() {
+        String arr = LazyParams.pickValue("arr", VALUES);
+        assertEquals(arr, LazyParams.pickValue("arr", VALUES.clone()));
+    }
+
+    @Test void modifiedArray() {
+        String[] values = VALUES.clone();
+        LazyParams.pickValue("mod", values);
+        values[1] = "z";
+        LazyParams.pickValue("mod", values);
+    }
+
+    /**
+     * Display function captures this test instance and is therefore a new
+     * instance on each value-pick.
+     */
+    Integer pickWithCapturingDisplay() {
+        return LazyParams.pickValue(n -> prefix + n, 1, 2);
+    }
+
+    @Test void capturingDisplayFunction() {
+        Integer nbr = pickWithCapturingDisplay();
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(nbr, pickWithCapturingDisplay());
+        }
+    }
+}
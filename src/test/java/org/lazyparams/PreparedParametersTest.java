@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Repeated value-picks must be recognized as the same parameter, regardless
+ * of whether it was prepared on current scope or is prepared anew.
+ *
+ * @author Henrik Kaipe
+ */
+public class PreparedParametersTest {
+
+    @Rule
+    public final VerifyJupiterRule expect = new VerifyJupiterRule(PreparedParameters.class);
+
+    @Test
+    public void repeatedPick() {
+        expect.pass(" nbr=1").pass(" nbr=2").pass(" nbr=3").pass("");
+    }
+
+    @Test
+    public void newArrayWithSameValues() {
+        expect.pass(" arr=x").pass(" arr=y").pass("");
+    }
+
+    @Test
+    public void modifiedArray() {
+        expect.pass(" mod=x mod=x").pass(" mod=y mod=z")
+                .pass(" mod=x mod=z").pass(" mod=y mod=x").pass("");
+    }
+
+    @Test
+    public void capturingDisplayFunction() {
+        expect.pass(" nbr=1").pass(" nbr=2").pass("");
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Expresses each repetition of a launched test with one character per value
+ * of parameters "p0", "p1", "p2" etc, which are picked in that order.
+ *
+ * @author Henrik Kaipe
+ */
+public class RepetitionPicks {
+
+    private RepetitionPicks() {}
+
+    /**
+     * @return display of picks, e.g. " p0=a p1=b" for picks "ab"
+     */
+    public static String display(String picks) {
+        StringBuilder display = new StringBuilder();
+        for (int i = 0; i < picks.length(); ++i) {
+            display.append(" p").append(i).append('=').append(picks.charAt(i));
+        }
+        return display.toString();
+    }
+
+    /**
+     * @return value pairs of the first paramCount parameters
+     */
+    public static Set<String> pairsOf(int paramCount, String... repetitions) {
+        Set<String> pairs = new HashSet<>();
+        for (String picks : repetitions) {
+            for (int i = 0; i < paramCount; ++i) {
+                for (int j = i + 1; j < paramCount; ++j) {
+                    pairs.add(i + ":" + picks.charAt(i) + "," + j + ":" + picks.charAt(j));
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Expects repetitions to pass in the specified order.
+     */
+    public static void expectRepetitions(
+            VerifyJupiterRule expect, String... repetitions) {
+        for (String picks : repetitions) {
+            expect.pass(display(picks));
+        }
+        expect.pass("");
+    }
+
+    /**
+     * Expects repetitions to pass in the specified order after having
+     * verified that together they cover expected number of value pairs.
+     */
+    public static void expectRepetitions(VerifyJupiterRule expect,
+            int expectedPairCount, String... repetitions) {
+        assertThat(pairsOf(repetitions[0].length(), repetitions))
+                .as("Covered pairs").hasSize(expectedPairCount);
+        expectRepetitions(expect, repetitions);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Launched by {@link ShardedJupiterTest}, which sets the system properties
+ * "lazyparams.shardIndex" and "lazyparams.shardCount" before each launch.
+ *
+ * @author Henrik Kaipe
+ */
+public class ShardedJupiter {
+
+    void pickAll() {
+        for (int i = 0; i < 4; ++i) {
+            LazyParams.pickValue("p" + i, 'a', 'b', 'c');
+        }
+    }
+
+    @Test void unsharded() {
+        pickAll();
+    }
+
+    @Test void shard0of2() {
+        pickAll();
+    }
+
+    @Test void shard1of2() {
+        pickAll();
+    }
+
+    @Test void shard0of3() {
+        pickAll();
+    }
+
+    @Test void shard1of3() {
+        pickAll();
+    }
+
+    @Test void shard2of3() {
+        pickAll();
+    }
+
+    @Test void shardIndexOutOfRange() {
+        pickAll();
+    }
+
+    @Test void shardCountOutOfRange() {
+        pickAll();
+    }
+}
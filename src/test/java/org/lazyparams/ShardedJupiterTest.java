@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Verifies that the shards together run exactly the repetitions of
+ * an unsharded execution. The first two repetitions are run on every shard,
+ * because the parameter sequence has not yet stabilized, and after that each
+ * repetition is run on exactly one shard.
+ *
+ * @author Henrik Kaipe
+ */
+public class ShardedJupiterTest {
+
+    private static final String[] UNSHARDED_REPETITIONS = {
+        " p0=a p1=a p2=a p3=a",
+        " p0=b p1=b p2=b p3=a",
+        " p0=c p1=c p2=c p3=a",
+        " p0=a p1=b p2=c p3=b",
+        " p0=c p1=a p2=b p3=c",
+        " p0=b p1=c p2=a p3=b",
+        " p0=a p1=c p2=b p3=c",
+        " p0=b p1=a p2=c p3=c",
+        " p0=c p1=b p2=a p3=c",
+        " p0=c p1=a p2=b p3=b",
+    };
+
+    @Rule
+    public final VerifyJupiterRule expect = new VerifyJupiterRule(ShardedJupiter.class);
+
+    /**
+     * Properties are set by each test but must remain until the rule has
+     * launched {@link ShardedJupiter}, so they are cleared afterwards.
+     */
+    @AfterClass
+    public static void clearShardProperties() {
+        System.clearProperty("lazyparams.shardIndex");
+        System.clearProperty("lazyparams.shardCount");
+    }
+
+    private void expectShard(int shardIndex, int shardCount) {
+        System.setProperty("lazyparams.shardIndex", "" + shardIndex);
+        System.setProperty("lazyparams.shardCount", "" + shardCount);
+        for (int i = 0; i < UNSHARDED_REPETITIONS.length; ++i) {
+            if (i < 2 || shardIndex == (i - 1) % shardCount) {
+                expect.pass(UNSHARDED_REPETITIONS[i]);
+            }
+        }
+        expect.pass("");
+    }
+
+    @Test
+    public void unsharded() {
+        clearShardProperties();
+        for (String repetition : UNSHARDED_REPETITIONS) {
+            expect.pass(repetition);
+        }
+        expect.pass("");
+    }
+
+    @Test
+    public void shard0of2() {
+        expectShard(0, 2);
+    }
+
+    @Test
+    public void shard1of2() {
+        expectShard(1, 2);
+    }
+
+    @Test
+    public void shard0of3() {
+        expectShard(0, 3);
+    }
+
+    @Test
+    public void shard1of3() {
+        expectShard(1, 3);
+    }
+
+    @Test
+    public void shard2of3() {
+        expectShard(2, 3);
+    }
+
+    @Test
+    public void shardIndexOutOfRange() {
+        System.setProperty("lazyparams.shardIndex", "2");
+        System.setProperty("lazyparams.shardCount", "2");
+        expect.fail("").withMessage(
+                ".*lazyparams.shardIndex=2 is out of range for shard count 2");
+    }
+
+    @Test
+    public void shardCountOutOfRange() {
+        System.setProperty("lazyparams.shardIndex", "0");
+        System.setProperty("lazyparams.shardCount", "0");
+        expect.fail("").withMessage(".*lazyparams.shardCount=0 must be at least 1");
+    }
+}
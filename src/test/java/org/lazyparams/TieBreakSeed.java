@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class TieBreakSeed {
+
+    void pickAll() {
+        for (int i = 0; i < 4; ++i) {
+            LazyParams.pickValue("p" + i, 'a', 'b', 'c');
+        }
+    }
+
+    @Test void unseeded() {
+        pickAll();
+    }
+
+    @Test void seed42() {
+        LazyParams.currentScopeConfiguration().setTieBreakSeed(42L);
+        pickAll();
+    }
+
+    @Test void seed42again() {
+        LazyParams.currentScopeConfiguration().setTieBreakSeed(42L);
+        pickAll();
+    }
+
+    @Test void seed42globally() {
+        LazyParamsCoreUtil.globalConfiguration().setTieBreakSeed(42L);
+        try {
+            pickAll();
+        } finally {
+            LazyParamsCoreUtil.globalConfiguration().setTieBreakSeed(null);
+        }
+    }
+
+    @Test void seed43() {
+        LazyParams.currentScopeConfiguration().setTieBreakSeed(43L);
+        pickAll();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Each repetition is expressed with one character per parameter value.
+ *
+ * @author Henrik Kaipe
+ */
+public class TieBreakSeedTest {
+
+    static final String[] SEED_42 = {
+        "baac", "abbb", "ccca", "bbcb", "acaa", "cabc", "aacc", "cbab",
+        "bcba", "acbc", "caaa", "bbca", "babb", "cbbc", "accb"
+    };
+
+    @Rule
+    public final VerifyJupiterRule expect = new VerifyJupiterRule(TieBreakSeed.class);
+
+    private void expectRepetitions(String... repetitions) {
+        RepetitionPicks.expectRepetitions(expect, 4 * 3 / 2 * 3 * 3, repetitions);
+    }
+
+    @Test
+    public void unseeded() {
+        expectRepetitions("aaaa", "bbba", "ccca", "abcb", "cabc",
+                "bcab", "acbc", "bacc", "cbac", "cabb");
+    }
+
+    /**
+     * Unlike {@link #unseeded()} the primary values are not preferred
+     * on first repetition.
+     */
+    @Test
+    public void seed42() {
+        expectRepetitions(SEED_42);
+    }
+
+    @Test
+    public void seed42again() {
+        expectRepetitions(SEED_42);
+    }
+
+    @Test
+    public void seed42globally() {
+        expectRepetitions(SEED_42);
+    }
+
+    @Test
+    public void seed43() {
+        expectRepetitions("baca", "cbaa", "acba", "cccb", "bbbc",
+                "aaab", "abcc", "cabc", "bcac", "bbbb");
+    }
+}
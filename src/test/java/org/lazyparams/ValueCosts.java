@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import org.junit.jupiter.api.Test;
+import org.lazyparams.showcase.ScopedLazyParameter;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class ValueCosts {
+
+    static ScopedLazyParameter.FactoryRoot<Character> values() {
+        return ScopedLazyParameter.from('a', 'b', 'c', 'd');
+    }
+
+    void pickAll(ScopedLazyParameter.BasicFactory<Character> p0) {
+        p0.asParameter("p0").pickValue();
+        for (int i = 1; i < 5; ++i) {
+            LazyParams.pickValue("p" + i, 'a', 'b');
+        }
+    }
+
+    @Test void regular() {
+        pickAll(values());
+    }
+
+    @Test void expensiveLast() {
+        pickAll(values().combinedWithCosts(1, 1, 1, 20));
+    }
+
+    @Test void uniformCosts() {
+        pickAll(values().combinedWithCosts(3, 3, 3, 3));
+    }
+
+    @Test void zeroCost() {
+        pickAll(values().combinedWithCosts(1, 1, 0, 1));
+    }
+}
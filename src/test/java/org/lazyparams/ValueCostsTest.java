@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams;
+
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each repetition is expressed with one character per parameter value,
+ * where parameter "p0" has the costs and the values of all other parameters
+ * are "a" or "b".
+ *
+ * @author Henrik Kaipe
+ */
+public class ValueCostsTest {
+
+    static final String[] REGULAR = {
+        "aaaaa", "bbabb", "cabbb", "dbbaa", "abbba",
+        "daaab", "babaa", "cbaaa", "aaabb", "dbbbb"
+    };
+
+    @Rule
+    public final VerifyJupiterRule expect = new VerifyJupiterRule(ValueCosts.class);
+
+    private void expectRepetitions(String... repetitions) {
+        RepetitionPicks.expectRepetitions(expect,
+                4 * 4 * 2 + 4 * 3 / 2 * 2 * 2, repetitions);
+    }
+
+    private static long countExpensive(String... repetitions) {
+        return Stream.of(repetitions).filter(picks -> picks.startsWith("d")).count();
+    }
+
+    @Test
+    public void regular() {
+        expectRepetitions(REGULAR);
+    }
+
+    @Test
+    public void expensiveLast() {
+        String[] repetitions = {
+            "aaaaa", "bbabb", "cabbb", "dbbaa", "abbba",
+            "babab", "cbaaa", "abbab", "bbbaa", "daabb"
+        };
+        assertThat(countExpensive(repetitions)).as("Picks of expensive value")
+                .isLessThan(countExpensive(REGULAR));
+        expectRepetitions(repetitions);
+    }
+
+    @Test
+    public void uniformCosts() {
+        expectRepetitions(REGULAR);
+    }
+
+    @Test
+    public void zeroCost() {
+        expect.fail("").withMessage(".*must be positive.*0\\.0");
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Verifies the message of {@link Lazer.ExpectedParameterRepetition} with and
+ * without {@link Lazer#setFullIntroductionStackTraces(boolean)}.
+ * (Name of this test-class must not start with "Lazer", because
+ * such classes are regarded as framework classes on the stack.)
+ *
+ * @author Henrik Kaipe
+ */
+public class ExpectedParameterRepetitionTest {
+
+    private void introduce(Lazer lazer) {
+        lazer.pick("introduced", true, 2);
+    }
+
+    private Lazer.ExpectedParameterRepetition reportInconsistency(Lazer lazer) {
+        try {
+            lazer.pick("inconsistent", true, 2);
+        } catch (Throwable expected) {
+            /* Is thrown without being declared: */
+            return (Lazer.ExpectedParameterRepetition) expected;
+        }
+        fail("Inconsistency not reported");
+        return null;
+    }
+
+    private Lazer.ExpectedParameterRepetition introduceAndReportInconsistency(
+            Lazer lazer) throws Throwable {
+        introduce(lazer);
+        lazer.pick("other", true, 2);
+        lazer.startNew();
+        return reportInconsistency(lazer);
+    }
+
+    private static boolean stackContains(Throwable t, String methodName) {
+        for (StackTraceElement frame : t.getStackTrace()) {
+            if (methodName.equals(frame.getMethodName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void assertMessageOnIntroduction(String message) {
+        assertTrue("Message on introduction: " + message, message.contains(
+                ExpectedParameterRepetitionTest.class.getName() + ".introduce("));
+    }
+
+    @Test
+    public void caller_frame_only() throws Throwable {
+        Lazer lazer = new Lazer();
+        Lazer.ExpectedParameterRepetition inconsistency =
+                introduceAndReportInconsistency(lazer);
+        assertMessageOnIntroduction(inconsistency.getMessage());
+        assertTrue("Stack-trace is captured where inconsistency is reported",
+                stackContains(inconsistency, "reportInconsistency"));
+
+        assertSame("Same instance when reported again",
+                inconsistency, reportInconsistency(lazer));
+    }
+
+    @Test
+    public void full_stack_traces() throws Throwable {
+        Lazer lazer = new Lazer();
+        lazer.setFullIntroductionStackTraces(true);
+        Lazer.ExpectedParameterRepetition inconsistency =
+                introduceAndReportInconsistency(lazer);
+        assertMessageOnIntroduction(inconsistency.getMessage());
+        assertTrue("Stack-trace is captured where parameter was introduced",
+                stackContains(inconsistency, "introduce"));
+    }
+
+    @Test
+    public void locate_caller_frame() {
+        StackTraceElement callerFrame = CallerFrame.locate();
+        assertEquals(ExpectedParameterRepetitionTest.class.getName(),
+                callerFrame.getClassName());
+        assertEquals("locate_caller_frame", callerFrame.getMethodName());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.core;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import org.junit.Assume;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Allocation-counting benchmark on {@link Lazer#pick(Object,boolean,int)}.
+ * Once all parameters and crumbs are known to the Lazer, its picks are
+ * expected to not allocate anything at all.
+ *
+ * @author Henrik Kaipe
+ */
+public class LazerAllocationTest {
+
+    static final String[] PARAM_IDS = {"1st", "2nd", "3rd", "4th"};
+    static final int VALUES_PER_PARAM = 4;
+    static final int REPETITIONS_PER_ROUND = 1000;
+
+    @Test
+    public void picks_on_known_parameters_do_not_allocate() throws Throwable {
+        ThreadMXBean threadMX = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("Allocation counting is not supported",
+                threadMX instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean)threadMX)
+                .isThreadAllocatedMemorySupported());
+        com.sun.management.ThreadMXBean allocationMX =
+                (com.sun.management.ThreadMXBean) threadMX;
+        allocationMX.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        Lazer lazer = new Lazer();
+        /* Warm-up rounds, during which all crumbs become known: */
+        for (int i = 0; i < 5; ++i) {
+            repeatRound(lazer);
+        }
+        long allocatedBefore = allocationMX.getThreadAllocatedBytes(threadId);
+        int picks = repeatRound(lazer);
+        long allocated = allocationMX.getThreadAllocatedBytes(threadId)
+                - allocatedBefore;
+
+        assertTrue("Expected less than one byte per pick but "
+                + picks + " picks allocated " + allocated + " bytes",
+                allocated < picks);
+    }
+
+    private static int repeatRound(Lazer lazer) throws Throwable {
+        int picks = 0;
+        for (int i = 0; i < REPETITIONS_PER_ROUND; ++i) {
+            lazer.startNew();
+            for (String paramId : PARAM_IDS) {
+                lazer.pick(paramId, true, VALUES_PER_PARAM);
+                ++picks;
+            }
+            lazer.pendingCombinations();
+        }
+        return picks;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies {@link Lazer#coverage()}.
+ *
+ * @author Henrik Kaipe
+ */
+public class LazerCoverageTest {
+
+    private static void pickAll(Lazer lazer) {
+        for (int i = 0; i < 3; ++i) {
+            lazer.pick("p" + i, true, 3);
+        }
+    }
+
+    @Test
+    public void coverage_after_first_repetition() throws Throwable {
+        Lazer lazer = new Lazer();
+        assertEquals("Repetitions before first pick",
+                0, lazer.coverage().getRepetitionCount());
+        pickAll(lazer);
+        Lazer.Coverage coverage = lazer.coverage();
+        assertEquals("Repetitions", 1, coverage.getRepetitionCount());
+        assertEquals("Covered combinations", 3, coverage.getCoveredCombinations());
+        assertEquals("Unpicked values", 6, coverage.getUnpickedValues());
+        assertEquals("Required combinations",
+                coverage.getCoveredCombinations()
+                + coverage.getOutstandingForwardRequests(),
+                coverage.getRequiredCombinations());
+        assertTrue("Estimated remaining repetitions: " + coverage,
+                2 <= coverage.getEstimatedRemainingRepetitions());
+    }
+
+    @Test
+    public void coverage_when_completed() throws Throwable {
+        Lazer lazer = new Lazer();
+        int repetitions = 0;
+        long lastCovered = 0;
+        do {
+            if (0 < repetitions++) {
+                lazer.startNew();
+            }
+            pickAll(lazer);
+            Lazer.Coverage coverage = lazer.coverage();
+            assertTrue("Covered combinations must not decrease",
+                    lastCovered <= coverage.getCoveredCombinations());
+            lastCovered = coverage.getCoveredCombinations();
+        } while (lazer.pendingCombinations());
+
+        Lazer.Coverage coverage = lazer.coverage();
+        assertEquals("Repetitions", repetitions, coverage.getRepetitionCount());
+        assertEquals("Covered combinations", 3 * 9, coverage.getCoveredCombinations());
+        assertEquals("Required combinations", 3 * 9, coverage.getRequiredCombinations());
+        assertEquals("Outstanding", 0, coverage.getOutstandingForwardRequests());
+        assertEquals("Unpicked values", 0, coverage.getUnpickedValues());
+        assertEquals("Estimated remaining repetitions",
+                0, coverage.getEstimatedRemainingRepetitions());
+
+        lazer.retire();
+        assertEquals("Covered combinations after retirement",
+                3 * 9, lazer.coverage().getCoveredCombinations());
+        assertSame(lazer.coverage(), lazer.coverage());
+    }
+
+    @Test
+    public void uncombined_values_have_no_combinations() throws Throwable {
+        Lazer lazer = new Lazer();
+        lazer.pick("combined", true, 2);
+        lazer.pick("uncombined", false, 4);
+        Lazer.Coverage coverage = lazer.coverage();
+        assertEquals("Covered combinations", 0, coverage.getCoveredCombinations());
+        assertEquals("Unpicked values", 4, coverage.getUnpickedValues());
+        assertTrue("Estimated remaining repetitions: " + coverage,
+                1 <= coverage.getEstimatedRemainingRepetitions());
+    }
+
+    /**
+     * Value 2 of p1 is forbidden with all values of p0, so it is never
+     * picked and is eventually given up as unreachable.
+     */
+    @Test
+    public void unreachable_combinations_under_constraint() throws Throwable {
+        Lazer lazer = new Lazer();
+        lazer.setConstraint(new Lazer.Constraint() {
+            @Override
+            public boolean forbids(Object paramId1, int valueIndex1,
+                    Object paramId2, int valueIndex2) {
+                return "p0".equals(paramId1) && "p1".equals(paramId2)
+                        && 2 == valueIndex2;
+            }
+        });
+        pickAll(lazer);
+        assertEquals("Unreachable combinations before giving up",
+                0, lazer.coverage().getUnreachableCombinations());
+        while (lazer.pendingCombinations()) {
+            lazer.startNew();
+            pickAll(lazer);
+        }
+
+        Lazer.Coverage coverage = lazer.coverage();
+        assertEquals("Covered combinations",
+                3 * 9 - 3 - 3, coverage.getCoveredCombinations());
+        assertEquals("Outstanding", 0, coverage.getOutstandingForwardRequests());
+        assertEquals("Unpicked values", 1, coverage.getUnpickedValues());
+        assertEquals("Unreachable", 1, coverage.getUnreachableCombinations());
+        assertEquals("Estimated remaining repetitions",
+                0, coverage.getEstimatedRemainingRepetitions());
+        assertTrue("Unreachable combinations are displayed: " + coverage,
+                coverage.toString().contains("(1 unreachable)"));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies repetitions on concurrent {@link Lazer#lease() leases}.
+ *
+ * @author Henrik Kaipe
+ */
+public class LazerLeaseTest {
+
+    static final int PARAM_COUNT = 6;
+    static final int VALUE_COUNT = 3;
+
+    @Test
+    public void concurrent_leases_cover_all_pairs() throws Throwable {
+        final Lazer lazer = new Lazer();
+        final Set<String> pairs = Collections.synchronizedSet(new HashSet<String>());
+        final AtomicInteger repetitionCount = new AtomicInteger();
+        final List<Throwable> failures =
+                Collections.synchronizedList(new ArrayList<Throwable>());
+        List<Thread> workers = new ArrayList<Thread>();
+        for (int w = 0; w < 4; ++w) {
+            workers.add(new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        Lazer.Lease lease = lazer.lease();
+                        do {
+                            int[] picks = new int[PARAM_COUNT];
+                            for (int i = 0; i < PARAM_COUNT; ++i) {
+                                picks[i] = lease.pick("p" + i, true, VALUE_COUNT);
+                                Thread.yield();
+                            }
+                            for (int i = 0; i < PARAM_COUNT; ++i) {
+                                for (int j = i + 1; j < PARAM_COUNT; ++j) {
+                                    pairs.add(i + ":" + picks[i] + "," + j + ":" + picks[j]);
+                                }
+                            }
+                            assertTrue("Too many repetitions",
+                                    repetitionCount.incrementAndGet() < 1000);
+                        } while (lease.startNew());
+                    } catch (Throwable ex) {
+                        failures.add(ex);
+                    }
+                }
+            });
+        }
+        for (Thread eachWorker : workers) {
+            eachWorker.start();
+        }
+        for (Thread eachWorker : workers) {
+            eachWorker.join();
+        }
+        assertEquals("Failures", Collections.<Throwable>emptyList(), failures);
+        assertEquals("Pairs", PARAM_COUNT * (PARAM_COUNT - 1) / 2
+                * VALUE_COUNT * VALUE_COUNT, pairs.size());
+    }
+
+    @Test
+    public void single_lease_picks_as_lazer() throws Throwable {
+        Lazer lazer = new Lazer();
+        Lazer.Lease lease = new Lazer().lease();
+        boolean pendingOnLazer;
+        do {
+            for (int i = 0; i < PARAM_COUNT; ++i) {
+                assertEquals("Pick on parameter " + i,
+                        lazer.pick("p" + i, true, VALUE_COUNT),
+                        lease.pick("p" + i, true, VALUE_COUNT));
+            }
+            pendingOnLazer = lazer.pendingCombinations();
+            lazer.startNew();
+            assertEquals("Pending combinations", pendingOnLazer, lease.startNew());
+        } while (pendingOnLazer);
+    }
+}
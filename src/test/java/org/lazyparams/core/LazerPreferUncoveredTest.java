@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies {@link Lazer#setPreferUncoveredCombinations(boolean)}.
+ *
+ * @author Henrik Kaipe
+ */
+public class LazerPreferUncoveredTest {
+
+    @Test
+    public void covers_more_combinations_on_early_repetitions() throws Throwable {
+        Lazer preferring = new Lazer();
+        preferring.setPreferUncoveredCombinations(true);
+        Lazer.Coverage preferred = coverageAfter(preferring, 30, 3);
+        Lazer.Coverage regular = coverageAfter(new Lazer(), 30, 3);
+        assertTrue(preferred.getCoveredCombinations() + " vs "
+                + regular.getCoveredCombinations(),
+                regular.getCoveredCombinations() < preferred.getCoveredCombinations());
+    }
+
+    @Test
+    public void all_combinations_are_covered() throws Throwable {
+        for (int strength = 2; strength <= 3; ++strength) {
+            Lazer lazer = new Lazer();
+            lazer.setPreferUncoveredCombinations(true);
+            Lazer.Coverage coverage = coverageAfter(lazer, 1000, strength);
+            assertTrue("Repetitions", coverage.getRepetitionCount() < 1000);
+            assertEquals("Covered combinations",
+                    coverage.getRequiredCombinations(),
+                    coverage.getCoveredCombinations());
+            assertEquals("Unpicked values", 0, coverage.getUnpickedValues());
+        }
+    }
+
+    @Test
+    public void can_be_switched_on_during_repetitions() throws Throwable {
+        Lazer lazer = new Lazer();
+        coverageAfter(lazer, 10, 2);
+        lazer.startNew();
+        lazer.setPreferUncoveredCombinations(true);
+        Lazer.Coverage coverage = coverageAfter(lazer, 1000, 2);
+        assertEquals("Covered combinations",
+                coverage.getRequiredCombinations(),
+                coverage.getCoveredCombinations());
+    }
+
+    private static Lazer.Coverage coverageAfter(
+            Lazer lazer, int maxRepetitions, int combinationStrength)
+    throws Throwable {
+        int repetitions = 0;
+        do {
+            if (0 < repetitions) {
+                lazer.startNew();
+            }
+            for (int i = 0; i < 8; ++i) {
+                lazer.pick("p" + i, combinationStrength, 3);
+            }
+        } while (++repetitions < maxRepetitions && lazer.pendingCombinations());
+        return lazer.coverage();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Verifies {@link Lazer#retire()}.
+ *
+ * @author Henrik Kaipe
+ */
+public class LazerRetireTest {
+
+    @Test
+    public void retire_completed_lazer() throws Throwable {
+        Lazer lazer = new Lazer();
+        int repetitions = 0;
+        do {
+            if (0 < repetitions++) {
+                lazer.startNew();
+            }
+            for (int i = 0; i < 4; ++i) {
+                lazer.pick("p" + i, true, 3);
+            }
+        } while (lazer.pendingCombinations());
+        assertNull("Summary before retirement", lazer.retiredSummary());
+
+        Lazer.Summary summary = lazer.retire();
+        assertEquals("Parameter count", 4, summary.getParameterCount());
+        assertEquals("Value count", 12, summary.getValueCount());
+        assertEquals("Repetition count", repetitions, summary.getRepetitionCount());
+        assertTrue("Completed", summary.isCompleted());
+        assertSame(summary, lazer.retiredSummary());
+        assertSame("Summary on repeated retirement", summary, lazer.retire());
+        assertFalse("Pending combinations", lazer.pendingCombinations());
+        try {
+            lazer.pick("p0", true, 3);
+            fail("Pick on retired Lazer");
+        } catch (IllegalStateException expected) {}
+    }
+
+    @Test
+    public void retire_incomplete_lazer() throws Throwable {
+        Lazer lazer = new Lazer();
+        lazer.pick("p0", true, 3);
+        lazer.pick("p1", true, 3);
+        assertTrue("Pending combinations", lazer.pendingCombinations());
+
+        Lazer.Summary summary = lazer.retire();
+        assertEquals("Repetition count", 1, summary.getRepetitionCount());
+        assertFalse("Completed", summary.isCompleted());
+        assertFalse("Pending combinations", lazer.pendingCombinations());
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verifies {@link Lazer#setTieBreaker(Lazer.TieBreaker)} with a custom
+ * tie-breaker. The seeded tie-breaker is verified by
+ * {@link org.lazyparams.TieBreakSeedTest}.
+ *
+ * @author Henrik Kaipe
+ */
+public class LazerTieBreakerTest {
+
+    @Test
+    public void custom_tie_breaker() {
+        Lazer lazer = new Lazer();
+        lazer.setTieBreaker(new Lazer.TieBreaker() {
+            @Override
+            public long rank(int parameterFingerprint,
+                    int valueIndex, int repetitionCount) {
+                return valueIndex;
+            }
+        });
+        for (int i = 0; i < 6; ++i) {
+            assertEquals("Highest value on first repetition of p" + i,
+                    3, lazer.pick("p" + i, true, 4));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies parameters with more than {@link Lazer#DENSE_RANGE_MAX} values.
+ *
+ * @author Henrik Kaipe
+ */
+public class LazerWideRangeTest {
+
+    @Test
+    public void values_are_picked_in_order_without_materializing_range() throws Throwable {
+        Lazer lazer = new Lazer();
+        for (int i = 0; i < 5; ++i) {
+            if (0 < i) {
+                lazer.startNew();
+            }
+            assertEquals("Wide-range pick", i,
+                    lazer.pick("wide", true, Integer.MAX_VALUE));
+            lazer.pick("other", true, 3);
+            assertTrue("Pending combinations", lazer.pendingCombinations());
+        }
+        Lazer.Summary summary = lazer.retire();
+        assertEquals("Value count", Integer.MAX_VALUE, summary.getValueCount());
+        assertFalse("Completed", summary.isCompleted());
+    }
+
+    @Test
+    public void uncombined_wide_range_is_completed() throws Throwable {
+        int valueRange = Lazer.DENSE_RANGE_MAX + 100;
+        Lazer lazer = new Lazer();
+        Set<String> pairs = new HashSet<String>();
+        int[] wideCounts = new int[valueRange];
+        int repetitions = 0;
+        do {
+            if (0 < repetitions++) {
+                lazer.startNew();
+            }
+            pairs.add(lazer.pick("first", true, 2) + ","
+                    + lazer.pick("second", true, 2));
+            ++wideCounts[lazer.pick("wide", false, valueRange)];
+        } while (lazer.pendingCombinations());
+        assertEquals("Repetitions", valueRange, repetitions);
+        for (int i = 0; i < valueRange; ++i) {
+            assertEquals("Count of wide-range value " + i, 1, wideCounts[i]);
+        }
+        assertEquals("Pairs", 4, pairs.size());
+    }
+
+    @Test
+    public void combined_wide_range() throws Throwable {
+        int valueRange = Lazer.DENSE_RANGE_MAX + 1;
+        Lazer lazer = new Lazer();
+        List<String> repetitions = new ArrayList<String>();
+        do {
+            if (false == repetitions.isEmpty()) {
+                lazer.startNew();
+            }
+            repetitions.add(lazer.pick("first", true, 2) + ","
+                    + lazer.pick("wide", true, valueRange) + ","
+                    + lazer.pick("second", true, 2));
+        } while (repetitions.size() < 10);
+        assertTrue("Still pending", lazer.pendingCombinations());
+        assertEquals("Wide-range values picked in order",
+                "0123456789", wideValues(repetitions));
+    }
+
+    private static String wideValues(List<String> repetitions) {
+        StringBuilder values = new StringBuilder();
+        for (String eachRepetition : repetitions) {
+            values.append(eachRepetition.split(",")[1]);
+        }
+        return values.toString();
+    }
+
+    @Test
+    public void record_and_replay_wide_range() throws Throwable {
+        Lazer recorder = new Lazer();
+        recorder.recordPicks();
+        List<String> recorded = run(recorder);
+
+        Lazer replayer = new Lazer();
+        replayer.replayPicks(recorder.recordedPicks());
+        replayer.recordPicks();
+        assertEquals(recorded, run(replayer));
+        assertEquals(recorder.recordedPicks().size(), replayer.recordedPicks().size());
+        for (int i = 0; i < recorded.size(); ++i) {
+            assertTrue("Same picks on repetition " + i, Arrays.equals(
+                    recorder.recordedPicks().get(i), replayer.recordedPicks().get(i)));
+        }
+    }
+
+    private static List<String> run(Lazer lazer) throws Throwable {
+        List<String> repetitions = new ArrayList<String>();
+        do {
+            if (false == repetitions.isEmpty()) {
+                lazer.startNew();
+            }
+            repetitions.add(lazer.pick("p", true, 3) + ","
+                    + lazer.pick("wide", true, Lazer.DENSE_RANGE_MAX + 1));
+        } while (repetitions.size() < 6);
+        return repetitions;
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.lazyparams.LazyParams;
 import org.lazyparams.LazyParamsCoreUtil;
+import org.lazyparams.showcase.Primitives;
 
 public class ManyByMany {
 
@@ -75,6 +76,16 @@ public class ManyByMany {
         }
     }
 
+    /**
+     * Same as {@link #oneToForty()} but the int parameters are picked with
+     * {@link Primitives#pickInt(String, int, int)}, which does not box any values.
+     */
+    @Test void oneToFortyPrimitive() {
+        for (int i = 1; i <= 40; ++i) {
+            Primitives.pickInt("p" + i, 0, i);
+        }
+    }
+
     /**
      * Benefits a little from the
      * {@link org.lazyparams.core.Lazer.ValueStats#isTemporarilyParkedOnPrimaryValue()}
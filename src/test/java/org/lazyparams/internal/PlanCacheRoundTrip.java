@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.internal;
+
+import java.io.File;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lazyparams.LazyParams;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class PlanCacheRoundTrip {
+
+    static File cacheDirectory;
+    static Character[] values = {'a', 'b', 'c'};
+
+    @BeforeAll static void cachePlans() {
+        LazyParams.currentScopeConfiguration().setPlanCacheDirectory(cacheDirectory);
+    }
+
+    @Test void pairwise() {
+        for (int i = 0; i < 4; ++i) {
+            LazyParams.pickValue("p" + i, 'a', 'b', 'c');
+        }
+    }
+
+    @Test void changedParameter() {
+        for (int i = 0; i < 4; ++i) {
+            LazyParams.pickValue("p" + i, values);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.internal;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.lazyparams.VerifyJupiterRule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Launches {@link PlanCacheRoundTrip} twice on the same plan-cache directory.
+ * Between the launches the cached plan is altered to have its repetitions
+ * in reverse order, so the second launch is expected to replay the
+ * repetitions of the first launch in reverse order - except for
+ * {@link #changedParameter()}, which has its parameter definitions changed
+ * between the launches instead.
+ *
+ * @author Henrik Kaipe
+ */
+public class PlanCacheRoundTripTest {
+
+    @Rule
+    public VerifyJupiterRule expect = new VerifyJupiterRule(PlanCacheRoundTrip.class) {
+        @Override
+        public Statement apply(Statement base, final Description description) {
+            final Statement launch = super.apply(base, description);
+            return new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    File cacheDirectory = Files.createTempDirectory("lzplan").toFile();
+                    PlanCacheRoundTrip.cacheDirectory = cacheDirectory;
+                    try {
+                        launch.evaluate();
+                        if ("changedParameter".equals(description.getMethodName())) {
+                            PlanCacheRoundTrip.values = new Character[] {'a', 'b', 'c', 'd'};
+                        } else {
+                            reverseCachedRepetitions(cacheDirectory);
+                            addTweaker(rule -> Collections.reverse(rule.getExpectations()
+                                    .subList(0, rule.getExpectations().size() - 1)));
+                        }
+                        launch.evaluate();
+                    } finally {
+                        PlanCacheRoundTrip.values = new Character[] {'a', 'b', 'c'};
+                        for (File eachFile : cacheDirectory.listFiles()) {
+                            eachFile.delete();
+                        }
+                        cacheDirectory.delete();
+                    }
+                }
+            };
+        }
+    };
+
+    static void reverseCachedRepetitions(File cacheDirectory) throws IOException {
+        File[] cacheFiles = cacheDirectory.listFiles();
+        assertThat(cacheFiles).as("Cached plans").hasSize(1);
+        assertThat(cacheFiles[0].getName()).endsWith(".lzplan");
+
+        int formatMagic;
+        String testIdentity;
+        List<long[]> repetitions = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(
+                new FileInputStream(cacheFiles[0]))) {
+            formatMagic = in.readInt();
+            testIdentity = in.readUTF();
+            for (int repetitionCount = in.readInt(); 0 <= --repetitionCount;) {
+                long[] repetition = new long[in.readInt()];
+                for (int i = 0; i < repetition.length; ++i) {
+                    repetition[i] = in.readLong();
+                }
+                repetitions.add(repetition);
+            }
+            assertThat(in.read()).as("End of cached plan").isEqualTo(-1);
+        }
+        assertThat(testIdentity).contains("pairwise");
+        /* Fingerprint is on upper half of each pick, so replay must also
+         * work when its sign bit is set: */
+        assertThat(LongStream.of(repetitions.get(0)).filter(pick -> pick < 0).count())
+                .as("Picks with negative fingerprint").isPositive();
+
+        Collections.reverse(repetitions);
+        try (DataOutputStream out = new DataOutputStream(
+                new FileOutputStream(cacheFiles[0]))) {
+            out.writeInt(formatMagic);
+            out.writeUTF(testIdentity);
+            out.writeInt(repetitions.size());
+            for (long[] repetition : repetitions) {
+                out.writeInt(repetition.length);
+                for (long pick : repetition) {
+                    out.writeLong(pick);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void pairwise() {
+        expectThreeValuePairwise();
+    }
+
+    /**
+     * Parameters have a fourth value on second launch, so the cached plan
+     * does not match and the picks are decided on the fly.
+     */
+    @Test
+    public void changedParameter() {
+        if (3 == PlanCacheRoundTrip.values.length) {
+            expectThreeValuePairwise();
+            return;
+        }
+        for (String picks : new String[] {
+                "aaaa", "bbbb", "cccc", "dddd", "abcd", "dcba", "badc", "cdab",
+                "acdb", "bdca", "cabd", "dbac", "adbc", "bcad", "cbda", "dacb"}) {
+            expect.pass(String.format(" p0=%s p1=%s p2=%s p3=%s",
+                    picks.charAt(0), picks.charAt(1), picks.charAt(2), picks.charAt(3)));
+        }
+        expect.pass("");
+    }
+
+    private void expectThreeValuePairwise() {
+        expect.pass(" p0=a p1=a p2=a p3=a")
+                .pass(" p0=b p1=b p2=b p3=a")
+                .pass(" p0=c p1=c p2=c p3=a")
+                .pass(" p0=a p1=b p2=c p3=b")
+                .pass(" p0=c p1=a p2=b p3=c")
+                .pass(" p0=b p1=c p2=a p3=b")
+                .pass(" p0=a p1=c p2=b p3=c")
+                .pass(" p0=b p1=a p2=c p3=c")
+                .pass(" p0=c p1=b p2=a p3=c")
+                .pass(" p0=c p1=a p2=b p3=b")
+                .pass("");
+    }
+}
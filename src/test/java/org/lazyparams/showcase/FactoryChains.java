@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.showcase;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The factory progression path is part of parameter ID. Therefore
+ * the same fluent chain must always produce the same parameter, while
+ * chains with separate progression paths produce separate parameters.
+ *
+ * @author Henrik Kaipe
+ */
+public class FactoryChains {
+
+    Integer pickNbr() {
+        return ScopedLazyParameter.from(1, 2, 3)
+                .combinedWithStrength(2)
+                .withExtraIdDetails("x")
+                .asParameter("n").pickValue();
+    }
+
+    @Test void sameChainTwice() {
+        Integer nbr = pickNbr();
+        assertThat(pickNbr()).isEqualTo(nbr);
+    }
+
+    @Test void eachFeatureSeparately() {
+        ScopedLazyParameter.from('a', 'b').asParameter("p").pickValue();
+        ScopedLazyParameter.from('a', 'b').notCombined()
+                .asParameter("p").pickValue();
+        ScopedLazyParameter.from('a', 'b').combinedWithStrength(2)
+                .asParameter("p").pickValue();
+        ScopedLazyParameter.from('a', 'b').combinedWithCosts(1, 1)
+                .asParameter("p").pickValue();
+        ScopedLazyParameter.from('a', 'b').withExtraIdDetails("x")
+                .asParameter("p").pickValue();
+        ScopedLazyParameter.from('a', 'b').qronicly()
+                .asParameter("p").pickValue();
+    }
+
+    @Test void featureOrder() {
+        ScopedLazyParameter.from('a', 'b')
+                .withExtraIdDetails("x").combinedWithStrength(2)
+                .asParameter("p").pickValue();
+        ScopedLazyParameter.from('a', 'b')
+                .combinedWithStrength(2).withExtraIdDetails("x")
+                .asParameter("p").pickValue();
+    }
+
+    @Test void explicitId() {
+        Character c = ScopedLazyParameter.from('a', 'b')
+                .combinedWithStrength(2).withExplicitParameterId("id")
+                .asParameter("p").pickValue();
+        assertThat(ScopedLazyParameter.from('a', 'b')
+                .withExplicitParameterId("id")
+                .asParameter("p").pickValue())
+                .isEqualTo(c);
+    }
+
+    @Test void quietly() {
+        ScopedLazyParameter.from('a', 'b').quietly()
+                .asParameter("p").pickValue();
+        ScopedLazyParameter.from('a', 'b').notCombined().quietly()
+                .asParameter("p").pickValue();
+    }
+}
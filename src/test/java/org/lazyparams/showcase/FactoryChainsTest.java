@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.showcase;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.lazyparams.VerifyJupiterRule;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class FactoryChainsTest {
+
+    @Rule
+    public VerifyJupiterRule expect = new VerifyJupiterRule(FactoryChains.class);
+
+    @Test
+    public void sameChainTwice() {
+        expect.pass(" n=1").pass(" n=2").pass(" n=3").pass("");
+    }
+
+    @Test
+    public void eachFeatureSeparately() {
+        expect.pass(" p=a p=a p=a p=a p=a")
+                .pass(" p=b p=b p=b p=a p=b")
+                .pass(" p=a p=a p=b p=b p=b")
+                .pass(" p=b p=b p=a p=b p=a")
+                .pass(" p=a p=a p=a p=a p=b")
+                .pass(" p=b p=b p=b p=b p=a")
+                .pass("");
+    }
+
+    @Test
+    public void featureOrder() {
+        expect.pass(" p=a p=a").pass(" p=b p=b")
+                .pass(" p=a p=b").pass(" p=b p=a").pass("");
+    }
+
+    @Test
+    public void explicitId() {
+        expect.pass(" p=a").pass(" p=b").pass("");
+    }
+
+    @Test
+    public void quietly() {
+        expect.pass("").pass("").pass("");
+    }
+}
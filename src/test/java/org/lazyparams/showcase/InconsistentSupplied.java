@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.showcase;
+
+import org.junit.jupiter.api.Test;
+import org.lazyparams.LazyParams;
+
+/**
+ * Picks inconsistent parameters with {@link Supplied}. Test-methods are not
+ * on {@link SuppliedCandidates}, because the name of that class starts with
+ * the name of a framework class, which makes its frames regarded as
+ * framework frames on the stack.
+ *
+ * @author Henrik Kaipe
+ */
+public class InconsistentSupplied {
+
+    boolean nonRepeatableIsPending = true;
+
+    @Test void nonRepeatablePick() {
+        if (nonRepeatableIsPending) {
+            nonRepeatableIsPending = false;
+            Supplied.pickValue("non_repeatable",
+                    Supplied.named("local", () -> "local"),
+                    Supplied.named("remote", () -> "remote"));
+        }
+        LazyParams.pickValue("repeatable", 1, 2);
+    }
+
+    @Test void nonRepeatableMemoized() {
+        if (nonRepeatableIsPending) {
+            nonRepeatableIsPending = false;
+            Supplied.pickMemoized("non_repeatable",
+                    Supplied.named("local", () -> "local"),
+                    Supplied.named("remote", () -> "remote"));
+        }
+        LazyParams.pickValue("repeatable", 1, 2);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.showcase;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.lazyparams.VerifyJupiterRule;
+
+/**
+ * Verifies that the introduction of an inconsistent parameter is reported
+ * on the test-method that picked it - not on {@link Supplied}.
+ *
+ * @author Henrik Kaipe
+ */
+public class InconsistentSuppliedTest {
+
+    @Rule
+    public VerifyJupiterRule expect = new VerifyJupiterRule(InconsistentSupplied.class);
+
+    private void expectReportOn(String testMethodName) {
+        String introducedAtTestMethod = ".*introduced at ...\n"
+                + "org.lazyparams.showcase.InconsistentSupplied." + testMethodName
+                + "\\(InconsistentSupplied.java:\\d++\\)\n.*";
+        expect.pass(" non_repeatable=local repeatable=1")
+                .fail(" PARAMETER_INCONSISTENCY_DETECTED")
+                .withMessage(introducedAtTestMethod)
+                .fail("").withMessage(".*count 2.*" + introducedAtTestMethod);
+    }
+
+    @Test
+    public void nonRepeatablePick() {
+        expectReportOn("nonRepeatablePick");
+    }
+
+    @Test
+    public void nonRepeatableMemoized() {
+        expectReportOn("nonRepeatableMemoized");
+    }
+}
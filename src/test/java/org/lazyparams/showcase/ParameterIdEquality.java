@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.showcase;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Parameter IDs are {@link ToStringKey} instances, which hash codes are
+ * the same for extra ID-details with the same hash code.
+ *
+ * @author Henrik Kaipe
+ */
+public class ParameterIdEquality {
+
+    /**
+     * Is described by its hash code, because toString() is not overridden.
+     */
+    static class CollidingDetail {
+        final int nbr;
+
+        CollidingDetail(int nbr) {
+            this.nbr = nbr;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CollidingDetail
+                    && nbr == ((CollidingDetail) obj).nbr;
+        }
+    }
+
+    String pick(Object extraIdDetail) {
+        return ScopedLazyParameter.from("a", "b")
+                .withExtraIdDetails(extraIdDetail)
+                .asParameter("p").pickValue();
+    }
+
+    @Test void equalDetails() {
+        String first = pick(new CollidingDetail(1));
+        assertThat(pick(new CollidingDetail(1))).isEqualTo(first);
+    }
+
+    @Test void collidingDetails() {
+        pick(new CollidingDetail(1));
+        pick(new CollidingDetail(2));
+    }
+
+    @Test void textDetails() {
+        String first = pick("x");
+        assertThat(pick(new String("x"))).isEqualTo(first);
+        pick("y");
+    }
+
+    @Test void nestedDetails() {
+        String first = pick(new Object[] {new CollidingDetail(1), "x"});
+        assertThat(pick(new Object[] {new CollidingDetail(1), "x"}))
+                .isEqualTo(first);
+        pick(new Object[] {new CollidingDetail(2), "x"});
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.showcase;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.lazyparams.VerifyJupiterRule;
+
+/**
+ * Two parameters are expected when their extra ID-details are unequal -
+ * also when hash codes of their IDs are the same.
+ *
+ * @author Henrik Kaipe
+ */
+public class ParameterIdEqualityTest {
+
+    @Rule
+    public VerifyJupiterRule expect = new VerifyJupiterRule(ParameterIdEquality.class);
+
+    void expectTwoParameters() {
+        expect.pass(" p=a p=a").pass(" p=b p=b")
+                .pass(" p=a p=b").pass(" p=b p=a").pass("");
+    }
+
+    @Test
+    public void equalDetails() {
+        expect.pass(" p=a").pass(" p=b").pass("");
+    }
+
+    @Test
+    public void collidingDetails() {
+        expectTwoParameters();
+    }
+
+    @Test
+    public void textDetails() {
+        expectTwoParameters();
+    }
+
+    @Test
+    public void nestedDetails() {
+        expectTwoParameters();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.showcase;
+
+import org.junit.jupiter.api.Test;
+import org.lazyparams.LazyParams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class PrimitivePicks {
+
+    boolean nonRepeatableIsPending = true;
+
+    @Test void intRange() {
+        int i = Primitives.pickInt("i", 3, 6);
+        assertThat(i).isBetween(3, 5);
+    }
+
+    @Test void longRange() {
+        long l = Primitives.pickLong("l", 5_000_000_000L, 5_000_000_002L);
+        assertThat(l).isBetween(5_000_000_000L, 5_000_000_001L);
+    }
+
+    @Test void intArray() {
+        Primitives.pickInt("i", new int[] {7, 11, 13});
+    }
+
+    @Test void longArray() {
+        Primitives.pickLong("l", new long[] {-1, 1});
+    }
+
+    @Test void pickBoolean() {
+        Primitives.pickBoolean("b");
+    }
+
+    @Test void repeatedPicks() {
+        int i = Primitives.pickInt("i", 0, 2);
+        assertThat(Primitives.pickInt("i", 0, 2)).isEqualTo(i);
+        boolean b = Primitives.pickBoolean("b");
+        assertThat(Primitives.pickBoolean("b")).isEqualTo(b);
+        long l = Primitives.pickLong("l", new long[] {-1, 1});
+        assertThat(Primitives.pickLong("l", new long[] {-1, 1})).isEqualTo(l);
+    }
+
+    @Test void sameNameAndValuesOnLazyParams() {
+        Primitives.pickInt("i", new int[] {1, 2});
+        LazyParams.pickValue("i", 1, 2);
+    }
+
+    @Test void nonRepeatablePick() {
+        if (nonRepeatableIsPending) {
+            nonRepeatableIsPending = false;
+            Primitives.pickInt("non_repeatable", 1, 3);
+        }
+        Primitives.pickBoolean("repeatable");
+    }
+
+    @Test void emptyIntRange() {
+        Primitives.pickInt("i", 2, 2);
+    }
+
+    @Test void emptyLongRange() {
+        Primitives.pickLong("l", 3, 1);
+    }
+}
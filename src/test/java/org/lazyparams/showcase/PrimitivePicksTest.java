@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.showcase;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.lazyparams.VerifyJupiterRule;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class PrimitivePicksTest {
+
+    @Rule
+    public VerifyJupiterRule expect = new VerifyJupiterRule(PrimitivePicks.class);
+
+    @Test
+    public void intRange() {
+        expect.pass(" i=3").pass(" i=4").pass(" i=5").pass("");
+    }
+
+    @Test
+    public void longRange() {
+        expect.pass(" l=5000000000").pass(" l=5000000001").pass("");
+    }
+
+    @Test
+    public void intArray() {
+        expect.pass(" i=7").pass(" i=11").pass(" i=13").pass("");
+    }
+
+    @Test
+    public void longArray() {
+        expect.pass(" l=-1").pass(" l=1").pass("");
+    }
+
+    @Test
+    public void pickBoolean() {
+        expect.pass(" b=false").pass(" b=true").pass("");
+    }
+
+    @Test
+    public void repeatedPicks() {
+        expect.pass(" i=0 b=false l=-1").pass(" i=1 b=true l=-1")
+                .pass(" i=0 b=true l=1").pass(" i=1 b=false l=1").pass("");
+    }
+
+    @Test
+    public void sameNameAndValuesOnLazyParams() {
+        expect.pass(" i=1 i=1").pass(" i=2 i=2")
+                .pass(" i=1 i=2").pass(" i=2 i=1").pass("");
+    }
+
+    /**
+     * The introduction of an inconsistent parameter is reported on the test
+     * method that picked it - not on the primitive picker.
+     */
+    @Test
+    public void nonRepeatablePick() {
+        String introducedAtTestMethod = ".*introduced at ...\n"
+                + "org.lazyparams.showcase.PrimitivePicks.nonRepeatablePick"
+                + "\\(PrimitivePicks.java:\\d++\\)\n.*";
+        expect.pass(" non_repeatable=1 repeatable=false")
+                .fail(" PARAMETER_INCONSISTENCY_DETECTED")
+                .withMessage(introducedAtTestMethod)
+                .fail("").withMessage(".*count 2.*" + introducedAtTestMethod);
+    }
+
+    @Test
+    public void emptyIntRange() {
+        expect.fail("").withMessage(
+                "Range of parameter i must have 1 to 2147483647 values: \\[2,2\\)");
+    }
+
+    @Test
+    public void emptyLongRange() {
+        expect.fail("").withMessage(
+                "Range of parameter l must have 1 to 2147483647 values: \\[3,1\\)");
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.showcase;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lazyparams.LazyParams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class SuppliedCandidates {
+
+    static final List<Client> pickedOnlyClients = new ArrayList<>();
+    static final List<Client> memoizedClients = new ArrayList<>();
+
+    @BeforeAll static void clearSuppliedClients() {
+        pickedOnlyClients.clear();
+        memoizedClients.clear();
+    }
+
+    static class Client implements AutoCloseable {
+        final String name;
+        boolean closed = false;
+
+        Client(String name) {
+            this.name = name;
+        }
+
+        @Override public void close() {
+            closed = true;
+        }
+    }
+
+    static Supplied<Client> candidate(String name, List<Client> supplied) {
+        return Supplied.named(name, () -> {
+            Client client = new Client(name);
+            supplied.add(client);
+            return client;
+        });
+    }
+
+    @Test void pickedOnly() {
+        int suppliedBefore = pickedOnlyClients.size();
+        Client client = Supplied.pickValue("client",
+                candidate("local", pickedOnlyClients),
+                candidate("remote", pickedOnlyClients),
+                candidate("mock", pickedOnlyClients));
+        LazyParams.pickValue("other", 1,2,3,4);
+        assertThat(pickedOnlyClients)
+                .as("Only picked candidate is supplied")
+                .hasSize(suppliedBefore + 1)
+                .endsWith(client);
+    }
+
+    @Test void memoized() {
+        Client client = Supplied.pickMemoized("client",
+                candidate("local", memoizedClients),
+                candidate("remote", memoizedClients));
+        FalseOrTrue.pickBoolean("retry");
+        assertThat(client.closed).as("Closed").isFalse();
+        int suppliedWithSameName = 0;
+        for (Client eachSupplied : memoizedClients) {
+            if (eachSupplied.name.equals(client.name)) {
+                assertThat(eachSupplied).as("Memoized client").isSameAs(client);
+                ++suppliedWithSameName;
+            }
+        }
+        assertThat(suppliedWithSameName)
+                .as("Number of times memoized client is supplied")
+                .isEqualTo(1);
+        assertThat(Supplied.pickMemoized("client",
+                candidate("local", memoizedClients),
+                candidate("remote", memoizedClients)))
+                .as("Repeated pick on same repetition")
+                .isSameAs(client);
+    }
+
+    /**
+     * Test-method repetitions are enclosed by the scope of test-class, so
+     * memoized clients are not yet evicted here.
+     * Clients that are not memoized must never be closed.
+     */
+    @AfterAll static void verifyClientsBeforeClassScopeRetires() {
+        for (Client eachPickedOnly : pickedOnlyClients) {
+            assertThat(eachPickedOnly.closed)
+                    .as("Closed " + eachPickedOnly.name + " that was not memoized")
+                    .isFalse();
+        }
+        for (Client eachMemoized : memoizedClients) {
+            assertThat(eachMemoized.closed)
+                    .as("Closed memoized " + eachMemoized.name)
+                    .isFalse();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.lazyparams.showcase;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.lazyparams.VerifyJupiterRule;
+import org.lazyparams.showcase.SuppliedCandidates.Client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Henrik Kaipe
+ */
+public class SuppliedCandidatesTest {
+
+    /**
+     * Verifies supplied clients after all scopes of the launch have retired.
+     */
+    Runnable verifyClientsAfterLaunch;
+
+    @Rule
+    public VerifyJupiterRule expect = new VerifyJupiterRule(SuppliedCandidates.class) {
+        @Override
+        public Statement apply(Statement base, Description description) {
+            final Statement launch = super.apply(base, description);
+            return new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    launch.evaluate();
+                    verifyClientsAfterLaunch.run();
+                }
+            };
+        }
+    };
+
+    @Test
+    public void pickedOnly() {
+        expect.pass(" client=local other=1")
+                .pass(" client=remote other=2")
+                .pass(" client=mock other=3")
+                .pass(" client=local other=4")
+                .pass(" client=remote other=1")
+                .pass(" client=mock other=2")
+                .pass(" client=local other=3")
+                .pass(" client=remote other=4")
+                .pass(" client=mock other=1")
+                .pass(" client=local other=2")
+                .pass(" client=remote other=3")
+                .pass(" client=mock other=4")
+                .pass("");
+        verifyClientsAfterLaunch = () -> {
+            assertThat(SuppliedCandidates.pickedOnlyClients)
+                    .as("Supplied once per repetition").hasSize(12);
+            for (Client eachPickedOnly : SuppliedCandidates.pickedOnlyClients) {
+                assertThat(eachPickedOnly.closed)
+                        .as("Closed " + eachPickedOnly.name + " that was not memoized")
+                        .isFalse();
+            }
+        };
+    }
+
+    @Test
+    public void memoized() {
+        expect.pass(" client=local")
+                .pass(" client=remote retry")
+                .pass(" client=local retry")
+                .pass(" client=remote")
+                .pass("");
+        verifyClientsAfterLaunch = () -> {
+            assertThat(SuppliedCandidates.memoizedClients)
+                    .as("Supplied once per candidate").hasSize(2);
+            for (Client eachMemoized : SuppliedCandidates.memoizedClients) {
+                assertThat(eachMemoized.closed)
+                        .as("Evicted and closed " + eachMemoized.name
+                                + " when scope of test-class retired")
+                        .isTrue();
+            }
+        };
+    }
+}